@@ -21,7 +21,6 @@
 package io.spine.base;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Throwables;
 import io.spine.annotation.SPI;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -42,8 +41,13 @@ public final class Environment {
      */
     public static final String ENV_KEY_TESTS = "io.spine.tests";
 
-    /** If set, tells if the code runs from a testing framework. */
-    private @Nullable Boolean tests;
+    /**
+     * If set, tells if the code runs from a testing framework.
+     *
+     * <p>The field is {@code volatile}, so that the value detected by one thread is visible to
+     * the others.
+     */
+    private volatile @Nullable Boolean tests;
 
     /** Prevents instantiation of this singleton class from outside. */
     private Environment() {}
@@ -81,47 +85,58 @@ public final class Environment {
     /**
      * Verifies if the code currently runs under a unit testing framework.
      *
-     * <p>The method returns {@code true} if the following packages are discovered
-     * in the stacktrace:
+     * <p>Unless the {@link #ENV_KEY_TESTS} property is set, the method returns {@code true}
+     * if a class from the following packages is discovered in the call stack:
      * <ul>
      *     <li>{@code org.junit}
      *     <li>{@code org.testng}
      * </ul>
      *
+     * <p>The call stack is not checked if none of these frameworks is on the classpath.
+     *
      * @return {@code true} if the code runs under a testing framework, {@code false} otherwise
      */
+    public boolean isTests() {
+        // If we cached the value before, return it.
+        Boolean result = tests;
+        if (result != null) {
+            return result;
+        }
+        return detectTests();
+    }
+
+    /**
+     * Detects if the code runs under a testing framework and caches the result.
+     *
+     * <p>The method is {@code synchronized}, so that the concurrent first callers
+     * do not perform the detection more than once.
+     */
     @SuppressWarnings({
             "DynamicRegexReplaceableByCompiledPattern", // OK as we cache the result
             "DuplicateStringLiteralInspection" // used in another context
     })
-    public boolean isTests() {
-        // If we cached the value before, return it.
-        if (tests != null) {
-            return tests;
+    private synchronized boolean detectTests() {
+        Boolean cached = tests;
+        if (cached != null) {
+            return cached;
         }
 
         // Check the environment variable. We may run under unknown testing framework or
         // tests may require production-like mode, which they simulate by setting
         // the property to `false`.
         String testProp = System.getProperty(ENV_KEY_TESTS);
+        boolean result;
         if (testProp != null) {
             testProp = testProp.replaceAll("\"' ", "");
-            this.tests = (String.valueOf(true)
-                                .equalsIgnoreCase(testProp)
-                    || "1".equals(testProp));
-            return this.tests;
+            result = String.valueOf(true)
+                           .equalsIgnoreCase(testProp)
+                    || "1".equals(testProp);
+        } else {
+            // Check the call stack for known frameworks.
+            result = TestFrameworks.detected();
         }
-
-        // Check stacktrace for known frameworks.
-        String stacktrace = Throwables.getStackTraceAsString(new RuntimeException(""));
-        if (stacktrace.contains("org.junit")
-                || stacktrace.contains("org.testng")) {
-            this.tests = true;
-            return true;
-        }
-
-        this.tests = false;
-        return false;
+        this.tests = result;
+        return result;
     }
 
     /**
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import io.spine.code.proto.FieldName;
+import io.spine.type.TypeName;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A compiled accessor of the field referenced by a {@link FieldPath}
+ * in messages of a certain type.
+ *
+ * <p>The field descriptors are resolved once, when the accessor is
+ * {@linkplain FieldPaths#compile(FieldPath, Class) compiled}. The values are then read through
+ * the generated getters, so the reads do not involve the reflective
+ * {@link Message#getField(FieldDescriptor) Message.getField()}. The numeric values can be
+ * obtained without boxing via {@link #getLong(Message)} and {@link #getDouble(Message)}.
+ *
+ * <p>The values of the {@code enum}, {@code repeated}, and {@code map} fields are obtained in
+ * the same way as {@link FieldPaths#getValue(FieldPath, Message)} obtains them.
+ *
+ * <p>The accessor is immutable and may be shared between threads.
+ */
+@Immutable
+public final class FieldAccessor {
+
+    private static final String GETTER_PREFIX = "get";
+
+    private static final ImmutableSet<Class<?>> LONG_TYPES = ImmutableSet.of(int.class,
+                                                                             long.class);
+    private static final ImmutableSet<Class<?>> DOUBLE_TYPES = ImmutableSet.of(int.class,
+                                                                               long.class,
+                                                                               float.class,
+                                                                               double.class);
+
+    private static final MethodHandle GET_FIELD = getFieldHandle();
+
+    private final Class<? extends Message> holderType;
+    private final FieldPath path;
+
+    /**
+     * The Java type returned by the getter of the field.
+     */
+    private final Class<?> valueType;
+
+    /**
+     * The handle which accepts a {@code Message} and returns the field value as an object.
+     */
+    @SuppressWarnings("Immutable") // `MethodHandle`s are immutable.
+    private final MethodHandle getter;
+
+    /**
+     * The handle which returns the field value as a {@code long}.
+     *
+     * <p>Is {@code null} if the field is not of an integral type.
+     */
+    @SuppressWarnings("Immutable") // `MethodHandle`s are immutable.
+    private final @Nullable MethodHandle longGetter;
+
+    /**
+     * The handle which returns the field value as a {@code double}.
+     *
+     * <p>Is {@code null} if the field is not of a numeric type.
+     */
+    @SuppressWarnings("Immutable") // `MethodHandle`s are immutable.
+    private final @Nullable MethodHandle doubleGetter;
+
+    private FieldAccessor(Class<? extends Message> holderType,
+                          FieldPath path,
+                          MethodHandle exactGetter) {
+        this.holderType = holderType;
+        this.path = path;
+        MethodType exactType = exactGetter.type();
+        this.valueType = exactType.returnType();
+        MethodHandle getter = exactGetter.asType(exactType.changeParameterType(0, Message.class));
+        this.getter = getter.asType(methodType(Object.class, Message.class));
+        this.longGetter = LONG_TYPES.contains(valueType)
+                          ? getter.asType(methodType(long.class, Message.class))
+                          : null;
+        this.doubleGetter = DOUBLE_TYPES.contains(valueType)
+                            ? getter.asType(methodType(double.class, Message.class))
+                            : null;
+    }
+
+    /**
+     * Compiles an accessor of the field at the given path in the messages of the given type.
+     *
+     * @throws IllegalArgumentException
+     *         if there is no field at the given path, or if one of the fields on the path,
+     *         except the last one, is not a singular message field
+     */
+    static FieldAccessor compile(FieldPath path, Class<? extends Message> holderType) {
+        Descriptor type = TypeName.of(holderType)
+                                  .messageDescriptor();
+        Class<?> currentClass = holderType;
+        MethodHandle handle = null;
+        for (Iterator<String> iterator = path.getFieldNameList().iterator(); iterator.hasNext(); ) {
+            String fieldName = iterator.next();
+            FieldDescriptor field = type.findFieldByName(fieldName);
+            if (field == null) {
+                throw newIllegalArgumentException(
+                        "Unable to find the field named `%s` in the type `%s`.",
+                        fieldName, type.getFullName());
+            }
+            boolean last = !iterator.hasNext();
+            if (!last) {
+                checkArgument(isSingularMessage(field),
+                              "The field `%s` is not a singular message field and it is not" +
+                                      " possible to obtain nested fields of the path `%s`.",
+                              field.getFullName(), FieldPaths.toString(path));
+                type = field.getMessageType();
+            }
+            MethodHandle step = readerOf(currentClass, field);
+            handle = handle == null
+                     ? step
+                     : MethodHandles.filterReturnValue(handle, step);
+            currentClass = step.type()
+                               .returnType();
+        }
+        checkState(handle != null);
+        return new FieldAccessor(holderType, path, handle);
+    }
+
+    /**
+     * Obtains the handle reading the value of the given field from the message of
+     * the given class.
+     *
+     * <p>Singular fields, except {@code enum}s, are read via the generated getters.
+     * Other fields are read via {@link Message#getField(FieldDescriptor) Message.getField()}.
+     */
+    private static MethodHandle readerOf(Class<?> messageClass, FieldDescriptor field) {
+        boolean viaGetter = !field.isRepeated() && field.getJavaType() != JavaType.ENUM;
+        if (viaGetter) {
+            String getterName = GETTER_PREFIX + FieldName.of(field.toProto())
+                                                         .toCamelCase();
+            try {
+                Method getter = messageClass.getMethod(getterName);
+                if (isFieldGetter(getter)) {
+                    return MethodHandles.publicLookup()
+                                        .unreflect(getter);
+                }
+            } catch (NoSuchMethodException | IllegalAccessException ignored) {
+                // Fall back to the reflective access.
+            }
+        }
+        MethodHandle getField = MethodHandles.insertArguments(GET_FIELD, 1, field);
+        return getField.asType(methodType(Object.class, messageClass));
+    }
+
+    /**
+     * Checks if the given method is a generated field getter.
+     *
+     * <p>If a field name clashes with a method of a message, such as {@code serialized_size},
+     * protoc renames the getter of the field. In this case, the found method is not
+     * the field getter.
+     */
+    private static boolean isFieldGetter(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        try {
+            GeneratedMessageV3.class.getMethod(method.getName());
+            return false;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static boolean isSingularMessage(FieldDescriptor field) {
+        return field.getJavaType() == MESSAGE && !field.isRepeated();
+    }
+
+    private static MethodHandle getFieldHandle() {
+        try {
+            return MethodHandles.publicLookup()
+                                .findVirtual(MessageOrBuilder.class, "getField",
+                                             methodType(Object.class, FieldDescriptor.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Obtains the value of the field in the given message.
+     *
+     * <p>Returns the same value as {@link FieldPaths#getValue(FieldPath, Message)}.
+     *
+     * @throws IllegalArgumentException
+     *         if the message is not of the type this accessor is compiled for
+     */
+    public Object get(Message holder) {
+        checkHolder(holder);
+        try {
+            return (Object) getter.invokeExact(holder);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    /**
+     * Obtains the value of an integral field without boxing.
+     *
+     * @throws IllegalStateException
+     *         if the field is not a singular {@code int32}, {@code int64}, or alike field
+     */
+    public long getLong(Message holder) {
+        checkHolder(holder);
+        MethodHandle handle = checkType(longGetter, LONG_TYPES);
+        try {
+            return (long) handle.invokeExact(holder);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    /**
+     * Obtains the value of a numeric field without boxing.
+     *
+     * <p>The values of integral fields are widened to {@code double}.
+     *
+     * @throws IllegalStateException
+     *         if the field is not a singular numeric field
+     */
+    public double getDouble(Message holder) {
+        checkHolder(holder);
+        MethodHandle handle = checkType(doubleGetter, DOUBLE_TYPES);
+        try {
+            return (double) handle.invokeExact(holder);
+        } catch (Throwable t) {
+            throw propagate(t);
+        }
+    }
+
+    /**
+     * Obtains the path of the field read by this accessor.
+     */
+    public FieldPath path() {
+        return path;
+    }
+
+    /**
+     * Obtains the type of the messages read by this accessor.
+     */
+    public Class<? extends Message> holderType() {
+        return holderType;
+    }
+
+    private void checkHolder(Message holder) {
+        checkNotNull(holder);
+        checkArgument(holderType.isInstance(holder),
+                      "Expected a message of the type `%s`, but got `%s`.",
+                      holderType.getName(), holder.getClass().getName());
+    }
+
+    private MethodHandle checkType(@Nullable MethodHandle handle,
+                                   ImmutableSet<Class<?>> expectedTypes) {
+        if (handle == null) {
+            throw newIllegalStateException(
+                    "The field `%s` has the type `%s`, while one of %s is expected.",
+                    FieldPaths.toString(path), valueType.getName(), expectedTypes);
+        }
+        return handle;
+    }
+
+    private static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw illegalStateWithCauseOf(t);
+    }
+}
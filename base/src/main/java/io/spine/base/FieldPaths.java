@@ -161,6 +161,29 @@ public final class FieldPaths {
         return currentValue;
     }
 
+    /**
+     * Compiles an accessor of the field at the given path in the messages of the given type.
+     *
+     * <p>Unlike {@link #getValue(FieldPath, Message)}, which resolves the path on each call,
+     * the returned accessor resolves the path once and reads the values via the generated
+     * getters. Use it when the same path is read from many messages.
+     *
+     * @param path
+     *         non-empty field path
+     * @param holderType
+     *         the type of the messages to read the field from
+     * @return a thread-safe accessor of the field
+     * @throws IllegalArgumentException
+     *         if the path does not reference a field in the given type
+     */
+    public static FieldAccessor compile(FieldPath path, Class<? extends Message> holderType) {
+        checkNotNull(path);
+        checkNotNull(holderType);
+        checkNotEmpty(path);
+        FieldAccessor result = FieldAccessor.compile(path, holderType);
+        return result;
+    }
+
     /**
      * Obtains a value referenced by the passed path in the passed message.
      *
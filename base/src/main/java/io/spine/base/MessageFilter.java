@@ -0,0 +1,335 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import com.google.protobuf.ProtocolMessageEnum;
+import io.spine.type.TypeName;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.spine.base.FieldPaths.findField;
+import static io.spine.base.FieldPaths.parse;
+import static io.spine.base.FieldPaths.typeOfFieldAt;
+import static io.spine.protobuf.TypeConverter.toObject;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A predicate on messages of a certain type, compiled from a number of {@link FieldFilter}s.
+ *
+ * <p>A message matches the filter if, for each of the {@code FieldFilter}s, the value of
+ * the referenced field is equal to one of the values accepted by the {@code FieldFilter}.
+ * If there are no {@code FieldFilter}s, all the messages match.
+ *
+ * <p>The accepted values are unpacked from {@link Any} once, when the filter is
+ * {@linkplain #compile(Class, Iterable) compiled}. The field values are read via
+ * the {@linkplain FieldAccessor compiled accessors}. The values of the integral, floating point,
+ * and {@code enum} fields are compared without boxing.
+ *
+ * <p>Only singular fields may be referenced by the {@code FieldFilter}s.
+ *
+ * <p>The filter is immutable and may be shared between threads.
+ *
+ * @param <M>
+ *         the type of the filtered messages
+ */
+@Immutable
+public final class MessageFilter<M extends Message> implements Predicate<M> {
+
+    /**
+     * The minimal number of messages, starting from which the messages are
+     * {@linkplain #filter(Iterable) filtered} in parallel.
+     */
+    private static final int PARALLELISM_THRESHOLD = 1024;
+
+    private final Class<M> messageType;
+    private final ImmutableList<Condition> conditions;
+
+    private MessageFilter(Class<M> messageType, ImmutableList<Condition> conditions) {
+        this.messageType = messageType;
+        this.conditions = conditions;
+    }
+
+    /**
+     * Compiles the given field filters into a filter of the messages of the given type.
+     *
+     * @param messageType
+     *         the type of the filtered messages
+     * @param filters
+     *         the field filters, all of which must be satisfied by a matching message
+     * @param <M>
+     *         the type of the filtered messages
+     * @return new message filter
+     * @throws IllegalArgumentException
+     *         if a filter references a missing or non-singular field, if a filter has
+     *         no accepted values, or if an accepted value cannot be converted to the type of
+     *         the field
+     */
+    public static <M extends Message> MessageFilter<M>
+    compile(Class<M> messageType, Iterable<FieldFilter> filters) {
+        checkNotNull(messageType);
+        checkNotNull(filters);
+        ImmutableList.Builder<Condition> conditions = ImmutableList.builder();
+        for (FieldFilter filter : filters) {
+            conditions.add(Condition.of(messageType, filter));
+        }
+        return new MessageFilter<>(messageType, conditions.build());
+    }
+
+    /**
+     * Checks if the given message matches this filter.
+     *
+     * @throws IllegalArgumentException
+     *         if the message is not of the type this filter is compiled for
+     */
+    @Override
+    public boolean test(M message) {
+        checkNotNull(message);
+        for (Condition condition : conditions) {
+            if (!condition.test(message)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the messages matching this filter.
+     *
+     * <p>The order of the messages is preserved. If the given messages form a large enough
+     * {@link Collection}, they are tested in parallel.
+     *
+     * @param messages
+     *         the messages to filter
+     * @return the messages which match this filter
+     */
+    public ImmutableList<M> filter(Iterable<M> messages) {
+        checkNotNull(messages);
+        boolean parallel = messages instanceof Collection
+                && ((Collection<?>) messages).size() >= PARALLELISM_THRESHOLD;
+        ImmutableList<M> result = StreamSupport.stream(messages.spliterator(), parallel)
+                                               .filter(this)
+                                               .collect(toImmutableList());
+        return result;
+    }
+
+    /**
+     * Obtains the type of the messages filtered by this filter.
+     */
+    public Class<M> messageType() {
+        return messageType;
+    }
+
+    /**
+     * A compiled {@link FieldFilter}.
+     */
+    @Immutable
+    private abstract static class Condition {
+
+        private final FieldAccessor accessor;
+
+        private Condition(FieldAccessor accessor) {
+            this.accessor = accessor;
+        }
+
+        private static Condition of(Class<? extends Message> messageType, FieldFilter filter) {
+            FieldPath path = parse(filter.getFieldPath());
+            List<Any> values = filter.getValueList();
+            checkArgument(!values.isEmpty(),
+                          "The filter by the field `%s` does not accept any values.",
+                          filter.getFieldPath());
+            FieldDescriptor field = findField(path, TypeName.of(messageType)
+                                                            .messageDescriptor());
+            if (field == null) {
+                throw newIllegalArgumentException(
+                        "Unable to find a field referenced by the path `%s` in the type `%s`.",
+                        filter.getFieldPath(), messageType.getName());
+            }
+            checkArgument(!field.isRepeated(),
+                          "Unable to filter by the `repeated` field `%s`.",
+                          field.getFullName());
+            FieldAccessor accessor = FieldPaths.compile(path, messageType);
+            Class<?> fieldType = typeOfFieldAt(messageType, path);
+            switch (field.getJavaType()) {
+                case INT:
+                case LONG:
+                    return new IntegralCondition(accessor, integralValues(values, fieldType));
+                case FLOAT:
+                case DOUBLE:
+                    return new FloatingCondition(accessor, floatingValues(values, fieldType));
+                case ENUM:
+                    return new EnumCondition(accessor, enumNumbers(values, fieldType));
+                default:
+                    return new ObjectCondition(accessor, objectValues(values, fieldType));
+            }
+        }
+
+        FieldAccessor accessor() {
+            return accessor;
+        }
+
+        abstract boolean test(Message message);
+    }
+
+    /**
+     * A condition on an {@code int32}, {@code int64}, or alike field.
+     */
+    @Immutable
+    private static final class IntegralCondition extends Condition {
+
+        /** The sorted accepted values. */
+        @SuppressWarnings("Immutable") // Never modified after construction.
+        private final long[] values;
+
+        private IntegralCondition(FieldAccessor accessor, long[] values) {
+            super(accessor);
+            this.values = values;
+        }
+
+        @Override
+        boolean test(Message message) {
+            long value = accessor().getLong(message);
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+    }
+
+    /**
+     * A condition on a {@code float} or a {@code double} field.
+     */
+    @Immutable
+    private static final class FloatingCondition extends Condition {
+
+        /** The sorted accepted values. */
+        @SuppressWarnings("Immutable") // Never modified after construction.
+        private final double[] values;
+
+        private FloatingCondition(FieldAccessor accessor, double[] values) {
+            super(accessor);
+            this.values = values;
+        }
+
+        @Override
+        boolean test(Message message) {
+            double value = accessor().getDouble(message);
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+    }
+
+    /**
+     * A condition on an {@code enum} field, which compares the numbers of the enum values.
+     */
+    @Immutable
+    private static final class EnumCondition extends Condition {
+
+        /** The sorted accepted numbers. */
+        @SuppressWarnings("Immutable") // Never modified after construction.
+        private final int[] numbers;
+
+        private EnumCondition(FieldAccessor accessor, int[] numbers) {
+            super(accessor);
+            this.numbers = numbers;
+        }
+
+        @Override
+        boolean test(Message message) {
+            EnumValueDescriptor value = (EnumValueDescriptor) accessor().get(message);
+            return Arrays.binarySearch(numbers, value.getNumber()) >= 0;
+        }
+    }
+
+    /**
+     * A condition on a field of any other type, which compares the values via {@code equals()}.
+     */
+    @Immutable
+    private static final class ObjectCondition extends Condition {
+
+        @SuppressWarnings("Immutable") // Contains only messages and immutable Java values.
+        private final ImmutableSet<Object> values;
+
+        private ObjectCondition(FieldAccessor accessor, ImmutableSet<Object> values) {
+            super(accessor);
+            this.values = values;
+        }
+
+        @Override
+        boolean test(Message message) {
+            Object value = accessor().get(message);
+            return values.contains(value);
+        }
+    }
+
+    private static long[] integralValues(List<Any> values, Class<?> fieldType) {
+        long[] result = values.stream()
+                              .map(value -> toNumber(value, fieldType))
+                              .mapToLong(Number::longValue)
+                              .sorted()
+                              .toArray();
+        return result;
+    }
+
+    private static double[] floatingValues(List<Any> values, Class<?> fieldType) {
+        double[] result = values.stream()
+                                .map(value -> toNumber(value, fieldType))
+                                .mapToDouble(Number::doubleValue)
+                                .sorted()
+                                .toArray();
+        return result;
+    }
+
+    private static int[] enumNumbers(List<Any> values, Class<?> fieldType) {
+        int[] result = values.stream()
+                             .map(value -> toObject(value, fieldType))
+                             .mapToInt(value -> ((ProtocolMessageEnum) value).getNumber())
+                             .sorted()
+                             .toArray();
+        return result;
+    }
+
+    private static ImmutableSet<Object> objectValues(List<Any> values, Class<?> fieldType) {
+        ImmutableSet<Object> result = values.stream()
+                                            .map(value -> toObject(value, fieldType))
+                                            .collect(toImmutableSet());
+        return result;
+    }
+
+    private static Number toNumber(Any value, Class<?> fieldType) {
+        Object result = toObject(value, fieldType);
+        if (!(result instanceof Number)) {
+            throw newIllegalArgumentException(
+                    "The value `%s` is not a number.", result);
+        }
+        return (Number) result;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.reflect.StackWalking;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Detects if the code runs under a known testing framework.
+ *
+ * <p>The detection is performed in two steps:
+ * <ol>
+ *     <li>If none of the entry point classes of the known frameworks can be loaded,
+ *         the code does not run under tests.
+ *     <li>Otherwise, the call stack of the current thread is checked for the classes of
+ *         the known frameworks. The check stops at the first matching frame.
+ * </ol>
+ *
+ * <p>If the runtime provides {@code java.lang.StackWalker}, the call stack is walked lazily.
+ * Otherwise, the stack trace elements of the current thread are checked. In both cases,
+ * the stack trace is never rendered as a string.
+ */
+final class TestFrameworks {
+
+    /**
+     * The classes, presence of which tells that a testing framework is on the classpath.
+     */
+    private static final ImmutableList<String> ENTRY_POINTS = ImmutableList.of(
+            "org.junit.platform.engine.TestEngine",
+            "org.junit.runner.JUnitCore",
+            "org.testng.TestNG"
+    );
+
+    /**
+     * The prefixes of the names of the classes of the testing frameworks.
+     */
+    private static final ImmutableList<String> PACKAGE_PREFIXES = ImmutableList.of(
+            "org.junit",
+            "org.testng"
+    );
+
+    /** Prevents instantiation of this utility class. */
+    private TestFrameworks() {
+    }
+
+    /**
+     * Tells if the current thread runs the code of a known testing framework.
+     */
+    static boolean detected() {
+        if (!onClasspath()) {
+            return false;
+        }
+        @Nullable Boolean walked = walkStack();
+        if (walked != null) {
+            return walked;
+        }
+        StackTraceElement[] stackTrace = Thread.currentThread()
+                                               .getStackTrace();
+        for (StackTraceElement element : stackTrace) {
+            if (isFrameworkClass(element.getClassName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean onClasspath() {
+        ClassLoader classLoader = classLoader();
+        for (String className : ENTRY_POINTS) {
+            try {
+                Class.forName(className, false, classLoader);
+                return true;
+            } catch (ClassNotFoundException | LinkageError ignored) {
+                // Try the next framework.
+            }
+        }
+        return false;
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader contextLoader = Thread.currentThread()
+                                          .getContextClassLoader();
+        return contextLoader != null
+               ? contextLoader
+               : TestFrameworks.class.getClassLoader();
+    }
+
+    /**
+     * Checks the call stack via {@code StackWalker}.
+     *
+     * @return the result of the check or {@code null} if {@code StackWalker} is not available
+     */
+    private static @Nullable Boolean walkStack() {
+        Optional<StackWalking> walking = StackWalking.instance();
+        if (!walking.isPresent()) {
+            return null;
+        }
+        return walking.get()
+                      .walk(frames -> frames.anyMatch(
+                              frame -> isFrameworkClass(frame.className())
+                      ));
+    }
+
+    private static boolean isFrameworkClass(String className) {
+        for (String prefix : PACKAGE_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Descriptors.GenericDescriptor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * An immutable hash table of Protobuf descriptors keyed by their full names.
+ *
+ * <p>The table uses open addressing with linear probing. The names and the descriptors are
+ * stored in two arrays, so no entry objects are allocated. The keys are the
+ * {@linkplain GenericDescriptor#getFullName() names} held by the descriptors themselves.
+ *
+ * <p>The table is at most half full, which keeps the probe sequences short.
+ */
+@Immutable
+final class DescriptorTable {
+
+    private static final DescriptorTable EMPTY = new DescriptorTable(new String[1],
+                                                                     new GenericDescriptor[1],
+                                                                     0);
+
+    @SuppressWarnings("Immutable") // The array is never modified after construction.
+    private final @Nullable String[] names;
+
+    @SuppressWarnings("Immutable") // The array is never modified after construction.
+    private final @Nullable GenericDescriptor[] descriptors;
+
+    private final int size;
+
+    private DescriptorTable(@Nullable String[] names,
+                            @Nullable GenericDescriptor[] descriptors,
+                            int size) {
+        this.names = names;
+        this.descriptors = descriptors;
+        this.size = size;
+    }
+
+    /**
+     * Creates a table with the descriptors from the given map.
+     *
+     * @param descriptors
+     *         the descriptors by their full names
+     */
+    static DescriptorTable of(Map<String, ? extends GenericDescriptor> descriptors) {
+        if (descriptors.isEmpty()) {
+            return EMPTY;
+        }
+        int capacity = capacityFor(descriptors.size());
+        String[] names = new String[capacity];
+        GenericDescriptor[] values = new GenericDescriptor[capacity];
+        int mask = capacity - 1;
+        for (GenericDescriptor descriptor : descriptors.values()) {
+            String name = descriptor.getFullName();
+            int index = indexOf(name, mask);
+            while (names[index] != null) {
+                index = (index + 1) & mask;
+            }
+            names[index] = name;
+            values[index] = descriptor;
+        }
+        return new DescriptorTable(names, values, descriptors.size());
+    }
+
+    /**
+     * Obtains the smallest power of two which is at least twice as big as the given size.
+     */
+    private static int capacityFor(int size) {
+        int doubled = size * 2;
+        int result = Integer.highestOneBit(doubled);
+        return result == doubled ? result : result * 2;
+    }
+
+    private static int indexOf(String name, int mask) {
+        int hash = name.hashCode();
+        int spread = hash ^ (hash >>> 16);
+        return spread & mask;
+    }
+
+    /**
+     * Obtains the descriptor with the given full name.
+     *
+     * @return the descriptor or {@code null} if there is no such descriptor in the table
+     */
+    @Nullable GenericDescriptor get(String fullName) {
+        int mask = names.length - 1;
+        int index = indexOf(fullName, mask);
+        String name = names[index];
+        while (name != null) {
+            if (name.equals(fullName)) {
+                return descriptors[index];
+            }
+            index = (index + 1) & mask;
+            name = names[index];
+        }
+        return null;
+    }
+
+    /**
+     * Obtains the number of the descriptors in the table.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Obtains all the descriptors of the table in no particular order.
+     */
+    Stream<GenericDescriptor> descriptors() {
+        return Arrays.stream(descriptors)
+                     .filter(Objects::nonNull);
+    }
+
+    /**
+     * Passes each name and descriptor of the table to the given action.
+     */
+    void forEach(BiConsumer<String, GenericDescriptor> action) {
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name != null) {
+                action.accept(name, descriptors[i]);
+            }
+        }
+    }
+}
@@ -214,6 +214,13 @@ public final class FileDescriptors {
 
         PREDICATE;
 
+        private final Logger log = Logging.get(IsNotGoogleProto.class);
+
+        @Override
+        public Logger log() {
+            return log;
+        }
+
         @Override
         public boolean test(FileDescriptorProto file) {
             checkNotNull(file);
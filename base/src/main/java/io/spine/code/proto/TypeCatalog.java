@@ -0,0 +1,265 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.ServiceDescriptorProto;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.annotation.Internal;
+import io.spine.logging.Logging;
+import io.spine.type.Type;
+import io.spine.type.TypeName;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.protobuf.Descriptors.FileDescriptor.buildFrom;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * A catalog of Protobuf types, which links the proto files on demand.
+ *
+ * <p>When created, the catalog only indexes the names of the types declared in each file.
+ * A file and its dependencies are linked the first time a type declared in the file is
+ * {@linkplain #find(TypeName) requested}. Thus, the memory and the time spent on linking grow
+ * with the number of the types actually used rather than with the number of the known types.
+ *
+ * <p>The catalog is safe for use from several threads.
+ */
+@Internal
+public final class TypeCatalog implements Logging {
+
+    private static final FileDescriptor[] NO_DEPENDENCIES = {};
+
+    /**
+     * The unlinked files by their names.
+     */
+    private final ImmutableMap<String, FileDescriptorProto> files;
+
+    /**
+     * The names of the files by the names of the types declared in them.
+     */
+    private final ImmutableMap<TypeName, String> declaringFiles;
+
+    /**
+     * The files linked so far, by their names.
+     *
+     * <p>Is guarded by the lock of this catalog.
+     */
+    private final Map<String, FileDescriptor> linked = newHashMap();
+
+    /**
+     * The types declared in the linked files, by the file names.
+     *
+     * <p>Is read without locking. The values are only put under the lock of this catalog,
+     * so each file is linked once.
+     */
+    private final Map<String, TypeSet> types = new ConcurrentHashMap<>();
+
+    private TypeCatalog(Collection<FileDescriptorProto> files) {
+        Map<String, FileDescriptorProto> filesByName = newHashMap();
+        Map<TypeName, String> filesByType = newHashMap();
+        for (FileDescriptorProto file : files) {
+            String fileName = file.getName();
+            if (filesByName.putIfAbsent(fileName, file) == null) {
+                for (TypeName type : declaredTypes(file)) {
+                    filesByType.putIfAbsent(type, fileName);
+                }
+            }
+        }
+        this.files = ImmutableMap.copyOf(filesByName);
+        this.declaringFiles = ImmutableMap.copyOf(filesByType);
+    }
+
+    /**
+     * Creates a catalog of the types declared in the files known to the application.
+     *
+     * <p>The files are read from the classpath, but not linked.
+     */
+    public static TypeCatalog load() {
+        return new TypeCatalog(FileDescriptors.load());
+    }
+
+    /**
+     * Creates a catalog of the types declared in the given files.
+     */
+    public static TypeCatalog of(Collection<FileDescriptorProto> files) {
+        checkNotNull(files);
+        return new TypeCatalog(files);
+    }
+
+    /**
+     * Obtains the names of all the types in this catalog.
+     *
+     * <p>Does not link any files.
+     */
+    public ImmutableSet<TypeName> typeNames() {
+        return declaringFiles.keySet();
+    }
+
+    /**
+     * Checks if this catalog has a type with the given name.
+     *
+     * <p>Does not link any files.
+     */
+    public boolean contains(TypeName typeName) {
+        checkNotNull(typeName);
+        return declaringFiles.containsKey(typeName);
+    }
+
+    /**
+     * Obtains the type with the given name.
+     *
+     * <p>Links the file declaring the type and its dependencies, if they are not linked yet.
+     *
+     * @return the type or {@code Optional.empty()} if this catalog has no such type
+     */
+    public Optional<Type<?, ?>> find(TypeName typeName) {
+        checkNotNull(typeName);
+        String fileName = declaringFiles.get(typeName);
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        TypeSet declaredTypes = typesOf(fileName);
+        return declaredTypes.find(typeName);
+    }
+
+    /**
+     * Links all the files of this catalog and obtains all the types declared in them.
+     */
+    public TypeSet toTypeSet() {
+        TypeSet.Builder result = TypeSet.newBuilder();
+        for (String fileName : files.keySet()) {
+            result.addAll(typesOf(fileName));
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the types declared in the file with the given name.
+     *
+     * <p>Looks up the types of the already linked files first, so that the common case does
+     * not lock.
+     */
+    private TypeSet typesOf(String fileName) {
+        TypeSet result = types.get(fileName);
+        if (result == null) {
+            result = linkTypesOf(fileName);
+        }
+        return result;
+    }
+
+    private synchronized TypeSet linkTypesOf(String fileName) {
+        TypeSet result = types.get(fileName);
+        if (result == null) {
+            FileDescriptor file = link(fileName);
+            result = file == null
+                     ? TypeSet.newBuilder().build()
+                     : TypeSet.from(file);
+            types.put(fileName, result);
+        }
+        return result;
+    }
+
+    /**
+     * Links the file with the given name along with its dependencies.
+     *
+     * <p>The dependencies which are not in this catalog are left unresolved.
+     *
+     * @return the linked file or {@code null} if there is no such file in this catalog
+     */
+    private @Nullable FileDescriptor link(String fileName) {
+        FileDescriptor result = linked.get(fileName);
+        if (result != null) {
+            return result;
+        }
+        FileDescriptorProto file = files.get(fileName);
+        if (file == null) {
+            return null;
+        }
+        List<FileDescriptor> dependencies = new ArrayList<>(file.getDependencyCount());
+        for (String dependency : file.getDependencyList()) {
+            FileDescriptor linkedDependency = link(dependency);
+            if (linkedDependency != null) {
+                dependencies.add(linkedDependency);
+            }
+        }
+        try {
+            result = buildFrom(file, dependencies.toArray(NO_DEPENDENCIES), true);
+        } catch (DescriptorValidationException e) {
+            throw newIllegalStateException(e, "Unable to link the file `%s`.", fileName);
+        }
+        _debug("Linked the file `{}`.", fileName);
+        linked.put(fileName, result);
+        return result;
+    }
+
+    private static List<TypeName> declaredTypes(FileDescriptorProto file) {
+        List<TypeName> result = new ArrayList<>();
+        String prefix = file.getPackage()
+                            .isEmpty()
+                        ? ""
+                        : file.getPackage() + TypeName.PACKAGE_SEPARATOR;
+        for (DescriptorProto message : file.getMessageTypeList()) {
+            addMessage(prefix, message, result);
+        }
+        for (EnumDescriptorProto enumType : file.getEnumTypeList()) {
+            result.add(TypeName.of(prefix + enumType.getName()));
+        }
+        for (ServiceDescriptorProto service : file.getServiceList()) {
+            result.add(TypeName.of(prefix + service.getName()));
+        }
+        return result;
+    }
+
+    /**
+     * Adds the names of the message, and of the messages and enums nested in it.
+     *
+     * <p>Map entry types are skipped the same way {@link io.spine.type.MessageType#allFrom}
+     * skips them.
+     */
+    private static void addMessage(String prefix, DescriptorProto message, List<TypeName> result) {
+        String fullName = prefix + message.getName();
+        if (!message.getOptions()
+                    .getMapEntry()) {
+            result.add(TypeName.of(fullName));
+        }
+        String nestedPrefix = fullName + TypeName.NESTED_TYPE_SEPARATOR;
+        for (DescriptorProto nested : message.getNestedTypeList()) {
+            addMessage(nestedPrefix, nested, result);
+        }
+        for (EnumDescriptorProto enumType : message.getEnumTypeList()) {
+            result.add(TypeName.of(nestedPrefix + enumType.getName()));
+        }
+    }
+}
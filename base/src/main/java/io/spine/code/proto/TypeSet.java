@@ -21,13 +21,15 @@
 package io.spine.code.proto;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableCollection;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
 import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Descriptors.GenericDescriptor;
+import com.google.protobuf.Descriptors.ServiceDescriptor;
 import com.google.protobuf.util.JsonFormat.TypeRegistry;
 import io.spine.annotation.Internal;
 import io.spine.type.EnumType;
@@ -39,75 +41,65 @@ import io.spine.type.TypeName;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Maps.newHashMap;
-import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
-import static com.google.common.collect.Maps.uniqueIndex;
 import static java.lang.System.lineSeparator;
 import static java.util.stream.Collectors.joining;
 
 /**
  * A set of Protobuf types.
+ *
+ * <p>The types are stored as descriptors in a single {@linkplain DescriptorTable table} keyed by
+ * the full type names. The {@link Type} instances are created when the types are requested.
  */
 @Internal
 @Immutable
 public final class TypeSet {
 
-    private final ImmutableMap<TypeName, MessageType> messageTypes;
-    private final ImmutableMap<TypeName, EnumType> enumTypes;
-    private final ImmutableMap<TypeName, ServiceType> serviceTypes;
-
-    /** Creates a new empty set. */
-    private TypeSet() {
-        this(ImmutableMap.of(), ImmutableMap.of(), ImmutableMap.of());
-    }
+    private final DescriptorTable types;
 
-    private TypeSet(ImmutableMap<TypeName, MessageType> messageTypes,
-                    ImmutableMap<TypeName, EnumType> enumTypes,
-                    ImmutableMap<TypeName, ServiceType> serviceTypes) {
-        this.messageTypes = messageTypes;
-        this.enumTypes = enumTypes;
-        this.serviceTypes = serviceTypes;
+    private TypeSet(DescriptorTable types) {
+        this.types = types;
     }
 
     private TypeSet(Builder builder) {
-        this(ImmutableMap.copyOf(builder.messageTypes),
-             ImmutableMap.copyOf(builder.enumTypes),
-             ImmutableMap.copyOf(builder.serviceTypes));
+        this(DescriptorTable.of(builder.descriptors));
     }
 
     /**
      * Obtains message and enum types declared in the passed file.
      */
     public static TypeSet from(FileDescriptor file) {
-        TypeSet messages = MessageType.allFrom(file);
-        TypeSet enums = EnumType.allFrom(file);
-        TypeSet services = ServiceType.allFrom(file);
-        return new TypeSet(messages.messageTypes, enums.enumTypes, services.serviceTypes);
+        return newBuilder().addAll(MessageType.allFrom(file))
+                           .addAll(EnumType.allFrom(file))
+                           .addAll(ServiceType.allFrom(file))
+                           .build();
     }
 
     /**
      * Obtains message and enum types declared in the files represented by the passed set.
      */
     public static TypeSet from(FileSet fileSet) {
-        TypeSet result = new TypeSet();
+        Builder result = newBuilder();
         for (FileDescriptor file : fileSet.files()) {
-            result = result.union(from(file));
+            result.addAll(from(file));
         }
-        return result;
+        return result.build();
     }
 
     /**
      * Obtains message types declared in the passed file set.
      */
     public static ImmutableCollection<MessageType> onlyMessages(FileSet fileSet) {
-        TypeSet result = new TypeSet();
+        Builder result = newBuilder();
         for (FileDescriptor file : fileSet.files()) {
-            TypeSet messageTypes = MessageType.allFrom(file);
-            result = result.union(messageTypes);
+            result.addAll(MessageType.allFrom(file));
         }
-        return result.messageTypes.values();
+        return result.build()
+                     .messageTypes();
     }
 
     /**
@@ -115,18 +107,14 @@ public final class TypeSet {
      */
     public static ImmutableCollection<MessageType> onlyMessages(FileDescriptor file) {
         TypeSet typeSet = MessageType.allFrom(file);
-        return typeSet.messageTypes.values();
+        return typeSet.messageTypes();
     }
 
     /**
      * Obtains the size of the set.
      */
     public int size() {
-        int messagesCount = messageTypes.size();
-        int enumsCount = enumTypes.size();
-        int servicesCount = serviceTypes.size();
-        int result = messagesCount + enumsCount + servicesCount;
-        return result;
+        return types.size();
     }
 
     /**
@@ -139,16 +127,11 @@ public final class TypeSet {
      */
     public Optional<Type<?, ?>> find(TypeName name) {
         checkNotNull(name);
-        Type<?, ?> messageType = messageTypes.get(name);
-        if (messageType != null) {
-            return Optional.of(messageType);
-        }
-        Type<?, ?> enumType = enumTypes.get(name);
-        if (enumType != null) {
-            return Optional.of(enumType);
+        GenericDescriptor descriptor = types.get(name.value());
+        if (descriptor == null) {
+            return Optional.empty();
         }
-        Type<?, ?> serviceType = serviceTypes.get(name);
-        return Optional.ofNullable(serviceType);
+        return Optional.of(wrap(descriptor));
     }
 
     /**
@@ -164,7 +147,8 @@ public final class TypeSet {
      * @see #find(TypeName)
      */
     public boolean contains(TypeName typeName) {
-        boolean result = find(typeName).isPresent();
+        checkNotNull(typeName);
+        boolean result = types.get(typeName.value()) != null;
         return result;
     }
 
@@ -181,15 +165,18 @@ public final class TypeSet {
      */
     public TypeRegistry toJsonPrinterRegistry() {
         TypeRegistry.Builder registry = TypeRegistry.newBuilder();
-        messageTypes.values()
-                    .stream()
-                    .map(Type::descriptor)
-                    .forEach(registry::add);
+        types.descriptors()
+             .filter(Descriptor.class::isInstance)
+             .map(Descriptor.class::cast)
+             .forEach(registry::add);
         return registry.build();
     }
 
     /**
      * Creates a new set which is a union of this and the passed one.
+     *
+     * <p>To unite many sets, prefer the {@link Builder#addAll(TypeSet)} method, which does not
+     * create intermediate sets.
      */
     public TypeSet union(TypeSet another) {
         if (another.isEmpty()) {
@@ -198,68 +185,73 @@ public final class TypeSet {
         if (this.isEmpty()) {
             return another;
         }
-        ImmutableMap<TypeName, MessageType> messages =
-                unite(this.messageTypes, another.messageTypes);
-        ImmutableMap<TypeName, EnumType> enums =
-                unite(this.enumTypes, another.enumTypes);
-        ImmutableMap<TypeName, ServiceType> services =
-                unite(this.serviceTypes, another.serviceTypes);
-        TypeSet result = new TypeSet(messages, enums, services);
+        TypeSet result = newBuilder().addAll(this)
+                                     .addAll(another)
+                                     .build();
         return result;
     }
 
-    private static <T extends Type<?, ?>> ImmutableMap<TypeName, T>
-    unite(Map<TypeName, T> left, Map<TypeName, T> right) {
-        // Use HashMap instead of ImmutableMap.Builder to deal with duplicates.
-        Map<TypeName, T> union = newHashMapWithExpectedSize(left.size() + right.size());
-        union.putAll(left);
-        union.putAll(right);
-        return ImmutableMap.copyOf(union);
-    }
-
     /**
      * Obtains all the types contained in this set.
      */
     public ImmutableSet<Type<?, ?>> allTypes() {
-        ImmutableSet<Type<?, ?>> types = ImmutableSet
-                .<Type<?, ?>>builder()
-                .addAll(messagesAndEnums())
-                .addAll(serviceTypes.values())
-                .build();
-        return types;
+        ImmutableSet<Type<?, ?>> result = types.descriptors()
+                                               .map(TypeSet::wrap)
+                                               .collect(toImmutableSet());
+        return result;
     }
 
     /**
      * Obtains message and enum types contained in this set.
      */
     public Set<Type<?, ?>> messagesAndEnums() {
-        ImmutableSet<Type<?, ?>> types = ImmutableSet
-                .<Type<?, ?>>builder()
-                .addAll(messageTypes.values())
-                .addAll(enumTypes.values())
-                .build();
-        return types;
+        ImmutableSet<Type<?, ?>> result =
+                types.descriptors()
+                     .filter(descriptor -> !(descriptor instanceof ServiceDescriptor))
+                     .map(TypeSet::wrap)
+                     .collect(toImmutableSet());
+        return result;
     }
 
     /**
      * Obtains message types from this set.
      */
     public ImmutableSet<MessageType> messageTypes() {
-        return ImmutableSet.copyOf(messageTypes.values());
+        return typesOf(Descriptor.class, MessageType::new);
     }
 
     /**
      * Obtains enum types from this set.
      */
     public ImmutableSet<EnumType> enumTypes() {
-        return ImmutableSet.copyOf(enumTypes.values());
+        return typesOf(EnumDescriptor.class, EnumType::create);
     }
 
     /**
      * Obtains service types from this set.
      */
     public ImmutableSet<ServiceType> serviceTypes() {
-        return ImmutableSet.copyOf(serviceTypes.values());
+        return typesOf(ServiceDescriptor.class, ServiceType::of);
+    }
+
+    private <D extends GenericDescriptor, T extends Type<?, ?>>
+    ImmutableSet<T> typesOf(Class<D> descriptorClass, Function<D, T> wrapper) {
+        ImmutableSet<T> result = types.descriptors()
+                                      .filter(descriptorClass::isInstance)
+                                      .map(descriptorClass::cast)
+                                      .map(wrapper)
+                                      .collect(toImmutableSet());
+        return result;
+    }
+
+    private static Type<?, ?> wrap(GenericDescriptor descriptor) {
+        if (descriptor instanceof Descriptor) {
+            return new MessageType((Descriptor) descriptor);
+        }
+        if (descriptor instanceof EnumDescriptor) {
+            return EnumType.create((EnumDescriptor) descriptor);
+        }
+        return ServiceType.of((ServiceDescriptor) descriptor);
     }
 
     @Override
@@ -271,28 +263,26 @@ public final class TypeSet {
             return false;
         }
         TypeSet typeSet = (TypeSet) o;
-        return Objects.equal(messageTypes, typeSet.messageTypes) &&
-                Objects.equal(enumTypes, typeSet.enumTypes);
+        return messagesAndEnums().equals(typeSet.messagesAndEnums());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(messageTypes, enumTypes);
+        return messagesAndEnums().hashCode();
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                          .add("messageTypes", namesForDisplay(messageTypes))
-                          .add("enumTypes", namesForDisplay(enumTypes))
-                          .add("serviceTypes", namesForDisplay(serviceTypes))
+                          .add("messageTypes", namesForDisplay(messageTypes()))
+                          .add("enumTypes", namesForDisplay(enumTypes()))
+                          .add("serviceTypes", namesForDisplay(serviceTypes()))
                           .toString();
     }
 
-    private static String namesForDisplay(Map<TypeName, ?> types) {
-        return types.keySet()
-                    .stream()
-                    .map(TypeName::value)
+    private static String namesForDisplay(Set<? extends Type<?, ?>> types) {
+        return types.stream()
+                    .map(Type::toString)
                     .sorted()
                     .collect(joining(lineSeparator()));
     }
@@ -308,12 +298,12 @@ public final class TypeSet {
 
     /**
      * A builder for the {@code TypeSet} instances.
+     *
+     * <p>If several types with the same name are added, the last one is taken.
      */
     public static final class Builder {
 
-        private final Map<TypeName, MessageType> messageTypes = newHashMap();
-        private final Map<TypeName, EnumType> enumTypes = newHashMap();
-        private final Map<TypeName, ServiceType> serviceTypes = newHashMap();
+        private final Map<String, GenericDescriptor> descriptors = newHashMap();
 
         /**
          * Prevents direct instantiation.
@@ -323,30 +313,40 @@ public final class TypeSet {
 
         @CanIgnoreReturnValue
         public Builder add(MessageType type) {
-            TypeName name = type.name();
-            messageTypes.put(name, type);
-            return this;
+            return put(type.descriptor());
         }
 
         @CanIgnoreReturnValue
         public Builder add(EnumType type) {
-            TypeName name = type.name();
-            enumTypes.put(name, type);
-            return this;
+            return put(type.descriptor());
         }
 
         @CanIgnoreReturnValue
         public Builder add(ServiceType type) {
-            TypeName name = type.name();
-            serviceTypes.put(name, type);
-            return this;
+            return put(type.descriptor());
         }
 
         @CanIgnoreReturnValue
         public Builder addAll(Iterable<MessageType> types) {
             checkNotNull(types);
-            ImmutableMap<TypeName, MessageType> map = uniqueIndex(types, MessageType::name);
-            messageTypes.putAll(map);
+            for (MessageType type : types) {
+                add(type);
+            }
+            return this;
+        }
+
+        /**
+         * Adds all the types from the given set.
+         */
+        @CanIgnoreReturnValue
+        public Builder addAll(TypeSet types) {
+            checkNotNull(types);
+            types.types.forEach(descriptors::put);
+            return this;
+        }
+
+        private Builder put(GenericDescriptor descriptor) {
+            descriptors.put(descriptor.getFullName(), descriptor);
             return this;
         }
 
@@ -29,6 +29,7 @@ import org.slf4j.event.SubstituteLoggingEvent;
 import org.slf4j.helpers.SubstituteLogger;
 
 import java.util.Queue;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.logging.LogMessages.logThrowable;
@@ -52,6 +53,14 @@ import static java.lang.String.format;
  * If you do need more than three arguments, please use a {@code Logger}
  * instance obtained via {@link #log()}.
  *
+ * <p>If a message is expensive to compose, pass it as a {@link Supplier}, e.g.
+ * {@link #_debug(Supplier) _debug(Supplier)}. The supplier is called only if the level is
+ * enabled. A single integral or boolean argument of a {@code TRACE} or {@code DEBUG} message
+ * is boxed only if the level is enabled, too.
+ *
+ * <p>By default, {@link #log()} looks up the logger by the class of the object. A class which
+ * logs in a hot path may cache the logger in a field and override {@code log()} to return it.
+ *
  * @apiNote The underscore-based convention is selected for making logging calls more visible and
  *          distinguishable from the real code.
  */
@@ -75,6 +84,8 @@ public interface Logging {
 
     /**
      * Obtains logger associated with the class of this instance.
+     *
+     * <p>Implementing classes may override this method to return a logger cached in a field.
      */
     default Logger log() {
         return loggerOf(getClass());
@@ -143,6 +154,44 @@ public interface Logging {
         log().trace(format, arg1, arg2, arg3);
     }
 
+    /**
+     * Logs a message obtained from the given supplier at the
+     * {@linkplain Logger#trace(String) TRACE} level.
+     *
+     * <p>The supplier is called only if the TRACE level is enabled.
+     */
+    default void _trace(Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isTraceEnabled()) {
+            log.trace(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#trace(String, Object) TRACE} level according
+     * to the specified format and an integral argument.
+     *
+     * <p>The argument is boxed only if the TRACE level is enabled.
+     */
+    default void _trace(String format, long arg) {
+        Logger log = log();
+        if (log.isTraceEnabled()) {
+            log.trace(format, arg);
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#trace(String, Object) TRACE} level according
+     * to the specified format and a {@code boolean} argument.
+     */
+    default void _trace(String format, boolean arg) {
+        Logger log = log();
+        if (log.isTraceEnabled()) {
+            log.trace(format, arg);
+        }
+    }
+
     /*
      * DEBUG Level
      ****************/
@@ -179,6 +228,44 @@ public interface Logging {
         log().debug(format, arg1, arg2, arg3);
     }
 
+    /**
+     * Logs a message obtained from the given supplier at the
+     * {@linkplain Logger#debug(String) DEBUG} level.
+     *
+     * <p>The supplier is called only if the DEBUG level is enabled.
+     */
+    default void _debug(Supplier<String> msg) {
+        checkNotNull(msg);
+        Logger log = log();
+        if (log.isDebugEnabled()) {
+            log.debug(msg.get());
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#debug(String, Object) DEBUG} level according
+     * to the specified format and an integral argument.
+     *
+     * <p>The argument is boxed only if the DEBUG level is enabled.
+     */
+    default void _debug(String format, long arg) {
+        Logger log = log();
+        if (log.isDebugEnabled()) {
+            log.debug(format, arg);
+        }
+    }
+
+    /**
+     * Logs a message at the {@linkplain Logger#debug(String, Object) DEBUG} level according
+     * to the specified format and a {@code boolean} argument.
+     */
+    default void _debug(String format, boolean arg) {
+        Logger log = log();
+        if (log.isDebugEnabled()) {
+            log.debug(format, arg);
+        }
+    }
+
     /*
      * INFO level
      ****************/
@@ -20,17 +20,27 @@
 
 package io.spine.protobuf;
 
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.GeneratedMessageV3;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import io.spine.type.TypeUrl;
 import io.spine.type.UnexpectedTypeException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
+import static io.spine.protobuf.Messages.defaultInstance;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 
 /**
  * Utilities for packing messages into {@link Any} and unpacking them.
@@ -49,6 +59,27 @@ public final class AnyPacker {
     private static final Function<@Nullable Any, @Nullable Message> ANY_UNPACKER =
             (@Nullable Any any) -> any == null ? null : unpack(any);
 
+    private static final char TYPE_URL_SEPARATOR = '/';
+
+    private static final int TYPE_URL_FIELD = Any.TYPE_URL_FIELD_NUMBER;
+    private static final int VALUE_FIELD = Any.VALUE_FIELD_NUMBER;
+
+    /**
+     * The type URLs of the packed messages by the classes of the messages.
+     *
+     * <p>The values do not prevent the classes from being unloaded. Only the type URLs of
+     * the {@linkplain GeneratedMessageV3 generated messages} are cached, since other messages,
+     * such as {@link com.google.protobuf.DynamicMessage}, do not have a class per type.
+     */
+    private static final ClassValue<String> typeUrls = new ClassValue<String>() {
+        @SuppressWarnings("unchecked") // Only the classes of the generated messages are queried.
+        @Override
+        protected String computeValue(Class<?> type) {
+            Message prototype = defaultInstance((Class<? extends Message>) type);
+            return composeTypeUrl(prototype.getDescriptorForType());
+        }
+    };
+
     /**
      * Prevents the utility class instantiation.
      */
@@ -67,9 +98,136 @@ public final class AnyPacker {
         if (message instanceof Any) {
             return (Any) message;
         }
-        TypeUrl typeUrl = TypeUrl.from(message.getDescriptorForType());
-        String typeUrlPrefix = typeUrl.prefix();
-        Any result = Any.pack(message, typeUrlPrefix);
+        Any result = packed(message, message.toByteString());
+        return result;
+    }
+
+    /**
+     * Wraps each of the given messages into {@link Any}.
+     *
+     * <p>The messages are serialized into a single buffer. The values of the resulting
+     * {@code Any} instances share the bytes of the buffer.
+     *
+     * <p>The instances of {@code Any} are not wrapped again.
+     *
+     * @param messages the messages to pack
+     * @return the packed messages in the order of the passed messages
+     */
+    public static ImmutableList<Any> packAll(Iterable<? extends Message> messages) {
+        checkNotNull(messages);
+        return packAll(messages, ByteString.newOutput());
+    }
+
+    /**
+     * Wraps each of the given messages into {@link Any} using the passed buffer
+     * for serializing the messages.
+     *
+     * <p>The buffer is {@linkplain ByteString.Output#reset() reset} before packing, so that
+     * it can be reused for packing a number of batches.
+     *
+     * @param messages the messages to pack
+     * @param buffer   the buffer for serializing the messages
+     * @return the packed messages in the order of the passed messages
+     * @see #packAll(Iterable)
+     */
+    public static ImmutableList<Any> packAll(Iterable<? extends Message> messages,
+                                             ByteString.Output buffer) {
+        checkNotNull(messages);
+        checkNotNull(buffer);
+        buffer.reset();
+        List<Message> toPack = newArrayList();
+        List<Integer> ends = newArrayList();
+        try {
+            for (Message message : messages) {
+                checkNotNull(message);
+                toPack.add(message);
+                if (!(message instanceof Any)) {
+                    message.writeTo(buffer);
+                }
+                ends.add(buffer.size());
+            }
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        ByteString bytes = buffer.toByteString();
+        ImmutableList.Builder<Any> result = ImmutableList.builder();
+        int start = 0;
+        for (int i = 0; i < toPack.size(); i++) {
+            Message message = toPack.get(i);
+            int end = ends.get(i);
+            Any any = message instanceof Any
+                      ? (Any) message
+                      : packed(message, bytes.substring(start, end));
+            result.add(any);
+            start = end;
+        }
+        return result.build();
+    }
+
+    /**
+     * Writes each of the given messages to the passed stream as a length-delimited
+     * {@link Any}.
+     *
+     * <p>The written messages can be read via {@link Any#parseDelimitedFrom(java.io.InputStream)
+     * Any.parseDelimitedFrom()}. The {@code Any} instances are not created when writing.
+     * Each message is serialized directly into the stream.
+     *
+     * <p>The instances of {@code Any} are not wrapped again.
+     *
+     * @param messages the messages to write
+     * @param output   the stream to write to
+     * @throws IOException if writing to the stream fails
+     */
+    public static void writeAll(Iterable<? extends Message> messages, CodedOutputStream output)
+            throws IOException {
+        checkNotNull(messages);
+        checkNotNull(output);
+        for (Message message : messages) {
+            checkNotNull(message);
+            if (message instanceof Any) {
+                output.writeMessageNoTag(message);
+            } else {
+                String typeUrl = typeUrlOf(message);
+                int size = CodedOutputStream.computeStringSize(TYPE_URL_FIELD, typeUrl)
+                         + CodedOutputStream.computeMessageSize(VALUE_FIELD, message);
+                output.writeUInt32NoTag(size);
+                output.writeString(TYPE_URL_FIELD, typeUrl);
+                // A nested message has the same wire format as the bytes of its serialized form.
+                output.writeMessage(VALUE_FIELD, message);
+            }
+        }
+    }
+
+    private static Any packed(Message message, ByteString value) {
+        String typeUrl = typeUrlOf(message);
+        Any result = Any
+                .newBuilder()
+                .setTypeUrl(typeUrl)
+                .setValue(value)
+                .build();
+        return result;
+    }
+
+    /**
+     * Obtains the type URL of the messages of the given type.
+     *
+     * <p>The URL is composed in the same way as {@link Any#pack(Message, String)} composes it
+     * for the {@linkplain TypeUrl#prefix() prefix} of the type.
+     */
+    private static String typeUrlOf(Message message) {
+        String result = message instanceof GeneratedMessageV3
+                        ? typeUrls.get(message.getClass())
+                        : composeTypeUrl(message.getDescriptorForType());
+        return result;
+    }
+
+    private static String composeTypeUrl(Descriptor descriptor) {
+        String prefix = TypeUrl.from(descriptor)
+                               .prefix();
+        String typeName = descriptor.getFullName();
+        String result = prefix.endsWith(String.valueOf(TYPE_URL_SEPARATOR))
+                        ? prefix + typeName
+                        : prefix + TYPE_URL_SEPARATOR + typeName;
         return result;
     }
 
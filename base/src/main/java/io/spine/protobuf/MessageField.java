@@ -26,14 +26,16 @@ import com.google.protobuf.Descriptors;
 import com.google.protobuf.Message;
 
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.Descriptors.FieldDescriptor;
+import static java.lang.invoke.MethodType.methodType;
 
 /**
  * Abstract base for classes working with message fields.
@@ -54,8 +56,19 @@ public abstract class MessageField implements Serializable {
     /** A zero-based index of the field in a Protobuf message. */
     private final int index;
 
-    /** A map from message class to a getter method of the corresponding Java class. */
-    private static final Map<Class<? extends Message>, Method> accessors = Maps.newConcurrentMap();
+    /**
+     * The getters of the message classes.
+     *
+     * <p>For each message class, maps the field index to the handle of the field getter.
+     * The handles accept a {@code Message} and return an {@code Object}.
+     */
+    private static final ClassValue<ConcurrentMap<Integer, MethodHandle>> accessors =
+            new ClassValue<ConcurrentMap<Integer, MethodHandle>>() {
+                @Override
+                protected ConcurrentMap<Integer, MethodHandle> computeValue(Class<?> type) {
+                    return Maps.newConcurrentMap();
+                }
+            };
 
     /**
      * Creates an instance for the field with the passed number.
@@ -87,11 +100,11 @@ public abstract class MessageField implements Serializable {
             throw createUnavailableFieldException(message);
         }
 
-        Method method = getAccessor(message);
+        MethodHandle getter = getAccessor(message);
         try {
-            Object result = method.invoke(message);
+            Object result = (Object) getter.invokeExact(message);
             return result;
-        } catch (InvocationTargetException | IllegalAccessException e) {
+        } catch (Throwable e) {
             throw (MessageFieldException) new MessageFieldException(message).initCause(e);
         }
     }
@@ -112,25 +125,29 @@ public abstract class MessageField implements Serializable {
      */
     protected abstract boolean isFieldAvailable(Message message);
 
-    private Method getAccessor(Message message) {
-        Class<? extends Message> messageClass = message.getClass();
-        Method method = accessors.get(messageClass);
-
-        if (method == null) {
-            FieldDescriptor fieldDescriptor = getFieldDescriptor(message, this.index);
-            String fieldName = fieldDescriptor.getName();
-            String methodName = toAccessorMethodName(fieldName);
-
-            try {
-                method = messageClass.getMethod(methodName);
-                method.setAccessible(true);
-                accessors.put(messageClass, method);
-            } catch (NoSuchMethodException e) {
-                throw new IllegalStateException(e);
-            }
+    private MethodHandle getAccessor(Message message) {
+        ConcurrentMap<Integer, MethodHandle> getters = accessors.get(message.getClass());
+        MethodHandle getter = getters.get(index);
+        if (getter == null) {
+            getter = getters.computeIfAbsent(index, i -> createAccessor(message, i));
         }
+        return getter;
+    }
 
-        return method;
+    private static MethodHandle createAccessor(Message message, int index) {
+        Class<? extends Message> messageClass = message.getClass();
+        FieldDescriptor fieldDescriptor = getFieldDescriptor(message, index);
+        String fieldName = fieldDescriptor.getName();
+        String methodName = toAccessorMethodName(fieldName);
+        try {
+            Method method = messageClass.getMethod(methodName);
+            method.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup()
+                                               .unreflect(method);
+            return getter.asType(methodType(Object.class, Message.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
@@ -27,20 +27,28 @@ import com.google.protobuf.Any;
 import com.google.protobuf.BoolValue;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.BytesValue;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.DoubleValue;
 import com.google.protobuf.EnumValue;
 import com.google.protobuf.FloatValue;
 import com.google.protobuf.Int32Value;
 import com.google.protobuf.Int64Value;
 import com.google.protobuf.Message;
+import com.google.protobuf.ProtocolMessageEnum;
 import com.google.protobuf.StringValue;
 import com.google.protobuf.UInt32Value;
 import com.google.protobuf.UInt64Value;
+import com.google.protobuf.UnsafeByteOperations;
 import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.protobuf.AnyPacker.unpack;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
  * A utility for converting the {@linkplain Message Protobuf Messages} (in form of {@link Any}) into
@@ -57,12 +65,28 @@ import static io.spine.protobuf.AnyPacker.unpack;
  *         the official doc</a>;
  *     <li>{@linkplain Enum Java Enum} types - the passed {@link Any} is unpacked into the {@link
  *         EnumValue} type and then is converted to the Java Enum through the value {@linkplain
- *         EnumValue#getName() name}.
+ *         EnumValue#getNumber() number}, if it is set, or the value {@linkplain
+ *         EnumValue#getName() name}. The numbers are supported only for the Protobuf enums.
  * </ul>
  */
 @Internal
 public final class TypeConverter {
 
+    /** The number of the {@code value} field in the Protobuf wrapper types. */
+    private static final int WRAPPER_VALUE_FIELD = 1;
+
+    private static final String INT32_TYPE_URL = typeUrlOf(Int32Value.getDefaultInstance());
+    private static final String INT64_TYPE_URL = typeUrlOf(Int64Value.getDefaultInstance());
+
+    /** The casters of the conversion target classes. */
+    private static final ClassValue<MessageCaster<?, ?>> casters =
+            new ClassValue<MessageCaster<?, ?>>() {
+                @Override
+                protected MessageCaster<?, ?> computeValue(Class<?> type) {
+                    return MessageCaster.create(type);
+                }
+            };
+
     /** Prevents instantiation of this utility class. */
     private TypeConverter() {
     }
@@ -80,7 +104,7 @@ public final class TypeConverter {
         checkNotNull(target);
         MessageCaster<? super Message, T> caster = MessageCaster.forType(target);
         Message genericMessage = unpack(message);
-        T result = caster.convert(genericMessage);
+        T result = caster.toObject(genericMessage);
         return result;
     }
 
@@ -99,6 +123,74 @@ public final class TypeConverter {
         return result;
     }
 
+    /**
+     * Converts the given {@code int} value to Protobuf {@link Any}.
+     *
+     * <p>The value is packed as {@link Int32Value}. The bytes of the wrapper are written
+     * directly, without creating the wrapper message.
+     *
+     * @param value the value to convert
+     * @return the packed value
+     */
+    public static Any toAny(int value) {
+        ByteString bytes;
+        if (value == 0) {
+            bytes = ByteString.EMPTY;
+        } else {
+            byte[] buffer = new byte[CodedOutputStream.computeInt32Size(WRAPPER_VALUE_FIELD,
+                                                                        value)];
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            try {
+                output.writeInt32(WRAPPER_VALUE_FIELD, value);
+            } catch (IOException e) {
+                throw illegalStateWithCauseOf(e);
+            }
+            bytes = UnsafeByteOperations.unsafeWrap(buffer);
+        }
+        return packed(INT32_TYPE_URL, bytes);
+    }
+
+    /**
+     * Converts the given {@code long} value to Protobuf {@link Any}.
+     *
+     * <p>The value is packed as {@link Int64Value}. The bytes of the wrapper are written
+     * directly, without creating the wrapper message.
+     *
+     * @param value the value to convert
+     * @return the packed value
+     */
+    public static Any toAny(long value) {
+        ByteString bytes;
+        if (value == 0L) {
+            bytes = ByteString.EMPTY;
+        } else {
+            byte[] buffer = new byte[CodedOutputStream.computeInt64Size(WRAPPER_VALUE_FIELD,
+                                                                        value)];
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            try {
+                output.writeInt64(WRAPPER_VALUE_FIELD, value);
+            } catch (IOException e) {
+                throw illegalStateWithCauseOf(e);
+            }
+            bytes = UnsafeByteOperations.unsafeWrap(buffer);
+        }
+        return packed(INT64_TYPE_URL, bytes);
+    }
+
+    private static Any packed(String typeUrl, ByteString bytes) {
+        Any result = Any
+                .newBuilder()
+                .setTypeUrl(typeUrl)
+                .setValue(bytes)
+                .build();
+        return result;
+    }
+
+    private static String typeUrlOf(Message defaultInstance) {
+        return AnyPacker.pack(defaultInstance)
+                        .getTypeUrl();
+    }
+
     /**
      * Converts the given value to a corresponding Protobuf {@link Message} type.
      *
@@ -138,21 +230,29 @@ public final class TypeConverter {
 
         private static <M extends Message, T> MessageCaster<M, T> forType(Class<T> cls) {
             checkNotNull(cls);
+            @SuppressWarnings("unchecked") // Logically checked.
+            MessageCaster<M, T> result = (MessageCaster<M, T>) casters.get(cls);
+            return result;
+        }
+
+        private static MessageCaster<?, ?> create(Class<?> cls) {
             MessageCaster<?, ?> caster;
             if (Message.class.isAssignableFrom(cls)) {
                 caster = new MessageTypeCaster();
             } else if (ByteString.class.isAssignableFrom(cls)) {
                 caster = new BytesCaster();
             } else if (Enum.class.isAssignableFrom(cls)) {
+                // The class of an enum constant with a body is a subclass of the enum.
+                Class<?> enumClass = cls.isEnum()
+                                     ? cls
+                                     : cls.getSuperclass();
                 @SuppressWarnings("unchecked") // Checked at runtime.
-                Class<? extends Enum> enumCls = (Class<? extends Enum>) cls;
+                Class<? extends Enum> enumCls = (Class<? extends Enum>) enumClass;
                 caster = new EnumCaster(enumCls);
             } else {
                 caster = new PrimitiveTypeCaster<>();
             }
-            @SuppressWarnings("unchecked") // Logically checked.
-            MessageCaster<M, T> result = (MessageCaster<M, T>) caster;
-            return result;
+            return caster;
         }
 
         @Override
@@ -191,17 +291,68 @@ public final class TypeConverter {
     private static final class EnumCaster extends MessageCaster<EnumValue, Enum> {
 
         private final Class<? extends Enum> type;
+        private final ImmutableMap<String, Enum> byName;
+
+        /** The constants by their numbers, if the enum is a Protobuf enum. */
+        private final ImmutableMap<Integer, Enum> byNumber;
 
         EnumCaster(Class<? extends Enum> type) {
             super();
             this.type = type;
+            ImmutableMap.Builder<String, Enum> byName = ImmutableMap.builder();
+            ImmutableMap.Builder<Integer, Enum> byNumber = ImmutableMap.builder();
+            for (Enum constant : type.getEnumConstants()) {
+                byName.put(constant.name(), constant);
+                Integer number = numberOf(constant);
+                if (number != null) {
+                    byNumber.put(number, constant);
+                }
+            }
+            this.byName = byName.build();
+            this.byNumber = byNumber.build();
+        }
+
+        /**
+         * Obtains the number of the given constant of a Protobuf enum.
+         *
+         * @return the number or {@code null} if the constant is not of a Protobuf enum, or if
+         *         the constant is {@code UNRECOGNIZED}
+         */
+        private static @Nullable Integer numberOf(Enum constant) {
+            if (!(constant instanceof ProtocolMessageEnum)) {
+                return null;
+            }
+            try {
+                return ((ProtocolMessageEnum) constant).getNumber();
+            } catch (IllegalArgumentException e) {
+                // The `UNRECOGNIZED` constant does not have a number.
+                return null;
+            }
         }
 
+        /**
+         * {@inheritDoc}
+         *
+         * <p>If the number of the value is set, or if the name is not set, the constant is
+         * looked up by the number. Otherwise, or if there is no constant with such a number,
+         * the constant is looked up by the name.
+         */
         @Override
         protected Enum toObject(EnumValue input) {
+            int number = input.getNumber();
             String name = input.getName();
-            @SuppressWarnings("unchecked") // Checked at runtime.
-            Enum value = Enum.valueOf(type, name);
+            Enum value = null;
+            if (number != 0 || name.isEmpty()) {
+                value = byNumber.get(number);
+            }
+            if (value == null) {
+                value = byName.get(name);
+            }
+            if (value == null) {
+                throw newIllegalArgumentException(
+                        "The enum `%s` has neither a constant named `%s` nor numbered %s.",
+                        type.getName(), name, number);
+            }
             return value;
         }
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.reflect;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static io.spine.reflect.Types.resolveArguments;
+
+/**
+ * A cache of the classes of generic type arguments specified in the inheritance chains
+ * of classes.
+ *
+ * <p>For each class, the arguments are resolved once per generic superclass. Subsequent
+ * lookups neither create {@link TypeToken}s nor resolve supertypes.
+ */
+final class GenericArguments {
+
+    /**
+     * For each inspected class, maps a generic superclass to the classes of its arguments.
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, ImmutableList<Class<?>>>> arguments =
+            new ClassValue<ConcurrentMap<Class<?>, ImmutableList<Class<?>>>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, ImmutableList<Class<?>>>
+                computeValue(Class<?> type) {
+                    return newConcurrentMap();
+                }
+            };
+
+    /** Prevents instantiation of this utility class. */
+    private GenericArguments() {
+    }
+
+    /**
+     * Obtains the classes of the generic arguments of the given superclass, as they are
+     * specified in the inheritance chain of the given class.
+     */
+    static ImmutableList<Class<?>> of(Class<?> cls, Class<?> genericSuperclass) {
+        ConcurrentMap<Class<?>, ImmutableList<Class<?>>> bySuperclass = arguments.get(cls);
+        ImmutableList<Class<?>> result = bySuperclass.get(genericSuperclass);
+        if (result == null) {
+            result = bySuperclass.computeIfAbsent(genericSuperclass,
+                                                  superclass -> resolve(cls, superclass));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked") // The class is a subtype of the generic superclass.
+    private static ImmutableList<Class<?>> resolve(Class<?> cls, Class<?> genericSuperclass) {
+        TypeToken<?> supertypeToken =
+                TypeToken.of(cls)
+                         .getSupertype((Class) genericSuperclass);
+        ImmutableList<Type> typeArgs = resolveArguments(supertypeToken.getType());
+        ImmutableList<Class<?>> result =
+                typeArgs.stream()
+                        .map(type -> TypeToken.of(type)
+                                              .getRawType())
+                        .collect(toImmutableList());
+        return result;
+    }
+}
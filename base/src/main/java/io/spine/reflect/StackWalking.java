@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.reflect;
+
+import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Walks the call stack of the current thread via {@code java.lang.StackWalker}.
+ *
+ * <p>As the library targets Java 8, the walker is accessed via method handles. The walker is
+ * {@linkplain #instance() available} only if the runtime provides it.
+ *
+ * <p>{@code StackWalker.walk()} is caller-sensitive, so it is looked up with the full-privilege
+ * lookup of this class rather than with the public one.
+ */
+@Internal
+public final class StackWalking {
+
+    private static final String WALKER_CLASS = "java.lang.StackWalker";
+    private static final String OPTION_CLASS = WALKER_CLASS + "$Option";
+    private static final String FRAME_CLASS = WALKER_CLASS + "$StackFrame";
+    private static final String RETAIN_CLASS_REFERENCE = "RETAIN_CLASS_REFERENCE";
+
+    private static final @Nullable StackWalking INSTANCE = create();
+
+    /**
+     * The handle which accepts a {@code Function<Stream<StackFrame>, T>} and walks
+     * the current stack with it.
+     */
+    private final MethodHandle walk;
+
+    /**
+     * The handle which accepts a {@code StackFrame} and returns its declaring class.
+     */
+    private final MethodHandle declaringClass;
+
+    /**
+     * The handle which accepts a {@code StackFrame} and returns the name of its declaring class.
+     */
+    private final MethodHandle className;
+
+    private StackWalking(MethodHandle walk, MethodHandle declaringClass, MethodHandle className) {
+        this.walk = walk;
+        this.declaringClass = declaringClass;
+        this.className = className;
+    }
+
+    /**
+     * Obtains the instance, or {@code Optional.empty()} if {@code StackWalker} is not
+     * available in the runtime.
+     */
+    public static Optional<StackWalking> instance() {
+        return Optional.ofNullable(INSTANCE);
+    }
+
+    @SuppressWarnings("unchecked") // Logically checked by the class name.
+    private static @Nullable StackWalking create() {
+        Class<?> walkerClass;
+        try {
+            walkerClass = Class.forName(WALKER_CLASS);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        try {
+            Class<? extends Enum> optionClass =
+                    (Class<? extends Enum>) Class.forName(OPTION_CLASS);
+            Class<?> frameClass = Class.forName(FRAME_CLASS);
+            Object retainClassReference = Enum.valueOf(optionClass, RETAIN_CLASS_REFERENCE);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Object walker = lookup.findStatic(walkerClass, "getInstance",
+                                              methodType(walkerClass, optionClass))
+                                  .invoke(retainClassReference);
+            MethodHandle walk = lookup.findVirtual(walkerClass, "walk",
+                                                   methodType(Object.class, Function.class))
+                                      .bindTo(walker);
+            MethodHandle declaringClass =
+                    lookup.findVirtual(frameClass, "getDeclaringClass", methodType(Class.class))
+                          .asType(methodType(Class.class, Object.class));
+            MethodHandle className =
+                    lookup.findVirtual(frameClass, "getClassName", methodType(String.class))
+                          .asType(methodType(String.class, Object.class));
+            return new StackWalking(walk, declaringClass, className);
+        } catch (Throwable t) {
+            throw illegalStateWithCauseOf(t);
+        }
+    }
+
+    /**
+     * Walks the call stack of the current thread with the given function.
+     *
+     * <p>The frames are visited lazily, so the walk stops as soon as the function stops
+     * consuming the stream. The first frame of the stream is the frame of this method.
+     *
+     * @param function
+     *         the function to apply to the stream of the frames
+     * @param <T>
+     *         the type of the result
+     * @return the result of the function
+     */
+    public <T> T walk(Function<? super Stream<Frame>, T> function) {
+        Function<Stream<?>, Object> onFrames = frames -> function.apply(frames.map(Frame::new));
+        try {
+            @SuppressWarnings("unchecked") // The result of the passed function.
+            T result = (T) (Object) walk.invokeExact((Function) onFrames);
+            return result;
+        } catch (Throwable t) {
+            throw illegalStateWithCauseOf(t);
+        }
+    }
+
+    /**
+     * A frame of the call stack.
+     */
+    public final class Frame {
+
+        private final Object frame;
+
+        private Frame(Object frame) {
+            this.frame = frame;
+        }
+
+        /**
+         * Obtains the class of the method of this frame.
+         */
+        public Class<?> declaringClass() {
+            try {
+                return (Class<?>) declaringClass.invokeExact(frame);
+            } catch (Throwable t) {
+                throw illegalStateWithCauseOf(t);
+            }
+        }
+
+        /**
+         * Obtains the binary name of the class of the method of this frame.
+         *
+         * <p>Unlike {@link #declaringClass()}, does not require the class to be resolved.
+         */
+        public String className() {
+            try {
+                return (String) className.invokeExact(frame);
+            } catch (Throwable t) {
+                throw illegalStateWithCauseOf(t);
+            }
+        }
+    }
+}
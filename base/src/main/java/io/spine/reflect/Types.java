@@ -118,6 +118,9 @@ public final class Types {
      * Obtains the class of a generic type argument which is specified in the inheritance chain
      * of the passed class.
      *
+     * <p>The arguments are resolved once per class and generic superclass. The subsequent calls
+     * obtain the cached result.
+     *
      * @param cls
      *         the end class for which we find the generic argument
      * @param genericSuperclass
@@ -132,13 +135,8 @@ public final class Types {
     <T> Class<?> argumentIn(Class<? extends T> cls, Class<T> genericSuperclass, int argNumber) {
         checkNotNull(cls);
         checkNotNull(genericSuperclass);
-        TypeToken<?> supertypeToken =
-                TypeToken.of(cls)
-                         .getSupertype(genericSuperclass);
-        ImmutableList<Type> typeArgs = resolveArguments(supertypeToken.getType());
-        Type argValue = typeArgs.get(argNumber);
-        Class<?> result = TypeToken.of(argValue)
-                                   .getRawType();
+        ImmutableList<Class<?>> typeArgs = GenericArguments.of(cls, genericSuperclass);
+        Class<?> result = typeArgs.get(argNumber);
         return result;
     }
 }
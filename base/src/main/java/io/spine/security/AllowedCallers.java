@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.security;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Immutable;
+import org.checkerframework.checker.signature.qual.FullyQualifiedName;
+
+import static io.spine.security.InvocationGuard.nonAllowedCaller;
+
+/**
+ * A precompiled set of classes allowed to call a method.
+ *
+ * <p>Instances are created via {@link InvocationGuard#allowing(String, String...)}. Typically,
+ * an instance is stored in a constant:
+ * <pre>{@code
+ * private static final AllowedCallers callers = InvocationGuard.allowing("org.example.Caller");
+ *
+ * public void guardedMethod() {
+ *     callers.check();
+ *     // ...
+ * }
+ * }</pre>
+ */
+@Immutable
+public final class AllowedCallers {
+
+    private final ImmutableSet<@FullyQualifiedName String> classNames;
+
+    AllowedCallers(ImmutableSet<@FullyQualifiedName String> classNames) {
+        this.classNames = classNames;
+    }
+
+    /**
+     * Throws {@link SecurityException} if the class calling the method, from which this method
+     * is called, is not among the allowed.
+     */
+    public void check() {
+        Class callingClass = CallerProvider.instance()
+                                           .getPreviousCallerClass();
+        if (!classNames.contains(callingClass.getName())) {
+            throw nonAllowedCaller(callingClass);
+        }
+    }
+}
@@ -20,12 +20,35 @@
 
 package io.spine.security;
 
+import io.spine.reflect.StackWalking;
+
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkState;
+
 /**
  * Provides information about the class calling a method.
+ *
+ * <p>If the runtime provides {@code java.lang.StackWalker}, it is used for obtaining
+ * the calling classes. The walker visits only the frames needed for finding the requested
+ * class. Otherwise, the classes are obtained from the class context of a
+ * {@link SecurityManager}.
  */
-final class CallerProvider extends SecurityManager {
+final class CallerProvider {
 
-    private static final CallerProvider INSTANCE = new CallerProvider();
+    private static final CallerProvider INSTANCE = new CallerProvider(createStrategy());
+
+    /**
+     * The number of frames between the {@link #getCallerClass()} or
+     * {@link #getPreviousCallerClass()} and the calling class.
+     */
+    private static final int CALLER_DEPTH = 2;
+
+    private final Strategy strategy;
+
+    private CallerProvider(Strategy strategy) {
+        this.strategy = strategy;
+    }
 
     /**
      * Obtains the instance.
@@ -39,9 +62,7 @@ final class CallerProvider extends SecurityManager {
      * is being called.
      */
     Class getCallerClass() {
-        Class[] context = getClassContext();
-        Class result = context[2];
-        return result;
+        return strategy.classAt(CALLER_DEPTH);
     }
 
     /**
@@ -49,8 +70,75 @@ final class CallerProvider extends SecurityManager {
      * method from which this method is being called.
      */
     Class getPreviousCallerClass() {
-        Class[] context = getClassContext();
-        Class result = context[3];
-        return result;
+        return strategy.classAt(CALLER_DEPTH + 1);
+    }
+
+    private static Strategy createStrategy() {
+        return StackWalking.instance()
+                           .<Strategy>map(StackWalkerStrategy::new)
+                           .orElseGet(ClassContext::new);
+    }
+
+    /**
+     * A way of obtaining the classes of the methods on the call stack.
+     */
+    private interface Strategy {
+
+        /**
+         * Obtains the class of the method at the given depth of the call stack.
+         *
+         * <p>The depth is counted from the method calling {@code classAt()}, for which
+         * the depth is zero.
+         */
+        Class classAt(int depth);
+    }
+
+    /**
+     * Obtains the calling classes via {@code java.lang.StackWalker}.
+     */
+    private static final class StackWalkerStrategy implements Strategy {
+
+        private final StackWalking walking;
+
+        private StackWalkerStrategy(StackWalking walking) {
+            this.walking = walking;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>The first frames of the walk are {@link StackWalking#walk} and this method itself,
+         * so they are skipped along with the requested number of frames.
+         */
+        @Override
+        public Class classAt(int depth) {
+            Optional<Class<?>> result =
+                    walking.walk(frames -> frames.skip(depth + 2)
+                                                 .findFirst()
+                                                 .map(StackWalking.Frame::declaringClass));
+            checkState(result.isPresent(), "The call stack is shorter than %s.", depth);
+            return result.get();
+        }
+    }
+
+    /**
+     * Obtains the calling classes from the class context of a {@link SecurityManager}.
+     *
+     * <p>Is used if {@code StackWalker} is not available.
+     */
+    private static final class ClassContext extends SecurityManager implements Strategy {
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>The first class of the context is the class of this method, so it is skipped
+         * along with the requested number of classes.
+         */
+        @Override
+        public Class classAt(int depth) {
+            Class[] context = getClassContext();
+            Class result = context[depth + 1];
+            return result;
+        }
     }
 }
@@ -57,17 +57,38 @@ public final class InvocationGuard {
         checkNotNull(otherClasses);
         Class callingClass = CallerProvider.instance()
                                            .getPreviousCallerClass();
+        String callingClassName = callingClass.getName();
+        if (firstClass.equals(callingClassName)) {
+            return;
+        }
+        for (String allowedClass : otherClasses) {
+            if (callingClassName.equals(allowedClass)) {
+                return;
+            }
+        }
+        throw nonAllowedCaller(callingClass);
+    }
+
+    /**
+     * Creates a guard which allows calls only from the named classes.
+     *
+     * <p>Unlike {@link #allowOnly(String, String...)}, the set of the allowed classes is
+     * composed only once. Store the returned guard in a constant and
+     * {@linkplain AllowedCallers#check() check} the caller in the guarded method.
+     */
+    public static AllowedCallers allowing(@FullyQualifiedName String firstClass,
+                                          @FullyQualifiedName String... otherClasses) {
+        checkNotNull(firstClass);
+        checkNotNull(otherClasses);
         ImmutableSet<@FullyQualifiedName String> allowedCallers = ImmutableSet
                 .<@FullyQualifiedName String>builder()
                 .add(firstClass)
                 .add(otherClasses)
                 .build();
-        if (!allowedCallers.contains(callingClass.getName())) {
-            throw nonAllowedCaller(callingClass);
-        }
+        return new AllowedCallers(allowedCallers);
     }
 
-    private static SecurityException nonAllowedCaller(@ClassGetName Class callingClass) {
+    static SecurityException nonAllowedCaller(@ClassGetName Class callingClass) {
         String msg = format(
                 "The class %s is not allowed to perform this operation.", callingClass
         );
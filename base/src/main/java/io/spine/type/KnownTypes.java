@@ -20,7 +20,10 @@
 
 package io.spine.type;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.Immutable;
 import com.google.protobuf.Any;
@@ -29,10 +32,12 @@ import com.google.protobuf.util.JsonFormat;
 import io.spine.annotation.Internal;
 import io.spine.code.java.ClassName;
 import io.spine.code.proto.FileSet;
+import io.spine.code.proto.TypeCatalog;
 import io.spine.code.proto.TypeSet;
 import io.spine.logging.Logging;
 import io.spine.security.InvocationGuard;
 import io.spine.type.ref.TypeRef;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 
 import java.io.Serializable;
@@ -67,6 +72,16 @@ import static java.util.stream.Collectors.toSet;
  * </pre>
  *
  * <p>In the snippet above, {@code oldTypes} contains a subset or is equal to the {@code newTypes}.
+ *
+ * <h1>Lazy loading</h1>
+ *
+ * <p>By default, all the known types are loaded and linked when the instance is first requested.
+ * If the {@linkplain #LAZY_LOADING_PROPERTY lazy loading} is turned on, only
+ * the {@linkplain TypeCatalog catalog} of the type names is read at startup. A proto file and its
+ * dependencies are linked when a type declared in the file is first requested by
+ * {@link #classNameOf(TypeUrl)} or {@link #find(TypeName)}. The {@link #contains(TypeUrl)} method
+ * does not link any files. The methods which work with all the types, such as
+ * {@link #asTypeSet()} or {@link #allUrls()}, link all the files.
  */
 @Internal
 @Immutable
@@ -74,10 +89,32 @@ public class KnownTypes implements Serializable {
 
     private static final long serialVersionUID = 0L;
 
+    /**
+     * The name of the system property which turns on the lazy loading of the known types.
+     *
+     * <p>Set the property to {@code true} before the known types are first accessed, e.g.
+     * with {@code -Dio.spine.type.KnownTypes.lazy=true}.
+     */
+    public static final String LAZY_LOADING_PROPERTY = "io.spine.type.KnownTypes.lazy";
+
     private static final Joiner NEW_LINE_JOINER = Joiner.on(lineSeparator());
 
-    @SuppressWarnings("TransientFieldNotInitialized") // Instance is substituted on deserialization.
-    private final transient TypeSet typeSet;
+    /**
+     * The catalog of the types, which links the files on demand.
+     *
+     * <p>Is {@code null} if the types are loaded eagerly.
+     */
+    @SuppressWarnings({
+            "TransientFieldNotInitialized", // Instance is substituted on deserialization.
+            "Immutable" // The catalog only caches the immutable linked descriptors.
+    })
+    private final transient @Nullable TypeCatalog catalog;
+
+    @SuppressWarnings({
+            "TransientFieldNotInitialized", // Instance is substituted on deserialization.
+            "Immutable" // The supplier is memoizing.
+    })
+    private final transient Supplier<TypeSet> typeSet;
 
     /**
      * Retrieves the singleton instance of {@code KnownTypes}.
@@ -91,15 +128,23 @@ public class KnownTypes implements Serializable {
     }
 
     private KnownTypes(TypeSet types) {
-        this.typeSet = checkNotNull(types);
+        checkNotNull(types);
+        this.catalog = null;
+        this.typeSet = Suppliers.ofInstance(types);
+    }
+
+    private KnownTypes(TypeCatalog catalog) {
+        this.catalog = checkNotNull(catalog);
+        this.typeSet = Suppliers.memoize(catalog::toTypeSet);
     }
 
     private Object readResolve() {
-        return new KnownTypes();
+        return Holder.load();
     }
 
     private Set<Type<?, ?>> types() {
-        return typeSet.allTypes();
+        return typeSet.get()
+                      .allTypes();
     }
 
     /**
@@ -120,11 +165,11 @@ public class KnownTypes implements Serializable {
      * @throws UnknownTypeException if there is no such type known to the application
      */
     public ClassName classNameOf(TypeUrl type) throws UnknownTypeException {
-        if (!instance().contains(type)) {
+        if (!contains(type)) {
             throw new UnknownTypeException(type.toTypeName()
                                                .value());
         }
-        ClassName result = instance().get(type);
+        ClassName result = get(type);
         return result;
     }
 
@@ -141,7 +186,7 @@ public class KnownTypes implements Serializable {
      * Retrieves all Protobuf types known to the application.
      */
     public TypeSet asTypeSet() {
-        return typeSet;
+        return typeSet.get();
     }
 
     /**
@@ -151,7 +196,8 @@ public class KnownTypes implements Serializable {
      * <p>The resulting registry contains all the known Protobuf message types.
      */
     public JsonFormat.TypeRegistry typeRegistry() {
-        return typeSet.toJsonPrinterRegistry();
+        return typeSet.get()
+                      .toJsonPrinterRegistry();
     }
 
     /**
@@ -188,7 +234,10 @@ public class KnownTypes implements Serializable {
      */
     public boolean contains(TypeUrl typeUrl) {
         TypeName name = typeUrl.toTypeName();
-        boolean result = typeSet.contains(name);
+        boolean result = catalog != null
+                         ? catalog.contains(name)
+                         : typeSet.get()
+                                  .contains(name);
         return result;
     }
 
@@ -198,13 +247,16 @@ public class KnownTypes implements Serializable {
      * @see TypeSet#find(TypeName)
      */
     Optional<Type<?, ?>> find(TypeName typeName) {
-        Optional<Type<?, ?>> type = typeSet.find(typeName);
+        Optional<Type<?, ?>> type = catalog != null
+                                    ? catalog.find(typeName)
+                                    : typeSet.get()
+                                             .find(typeName);
         return type;
     }
 
     private Type get(TypeName name) throws UnknownTypeException {
-        Type result = typeSet.find(name)
-                             .orElseThrow(() -> new UnknownTypeException(name.value()));
+        Type result = find(name)
+                .orElseThrow(() -> new UnknownTypeException(name.value()));
         return result;
     }
 
@@ -241,7 +293,7 @@ public class KnownTypes implements Serializable {
         private static final Lock lock = new ReentrantLock(false);
 
         /** The singleton instance. */
-        private static KnownTypes instance = new KnownTypes();
+        private static KnownTypes instance = load();
 
         /** Prevents instantiation from outside. */
         private Holder() {
@@ -252,6 +304,20 @@ public class KnownTypes implements Serializable {
             return instance;
         }
 
+        /**
+         * Loads the known types either eagerly or lazily depending on
+         * the {@linkplain #LAZY_LOADING_PROPERTY system property}.
+         */
+        @VisibleForTesting
+        static KnownTypes load() {
+            boolean lazy = Boolean.getBoolean(LAZY_LOADING_PROPERTY);
+            if (lazy) {
+                log.debug("Loading the catalog of known types. The files are linked on demand.");
+                return new KnownTypes(TypeCatalog.load());
+            }
+            return new KnownTypes();
+        }
+
         /**
          * Extends the known types with some more types.
          *
@@ -267,7 +333,8 @@ public class KnownTypes implements Serializable {
 
             lock.lock();
             try {
-                TypeSet newKnownTypes = instance.typeSet.union(moreKnownTypes);
+                TypeSet newKnownTypes = instance.asTypeSet()
+                                                .union(moreKnownTypes);
                 instance = new KnownTypes(newKnownTypes);
             } finally {
                 lock.unlock();
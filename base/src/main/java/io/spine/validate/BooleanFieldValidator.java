@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import java.util.Set;
-
 /**
  * Validates fields of type {@link Boolean}.
  */
@@ -46,10 +44,4 @@ class BooleanFieldValidator extends FieldValidator<Boolean> {
     protected boolean isNotSet(Boolean value) {
         return false;
     }
-
-    @Override
-    protected Set<FieldValidatingOption<?, Boolean>> createMoreOptions(
-            ValidatingOptionFactory factory) {
-        return factory.forBoolean();
-    }
 }
@@ -22,8 +22,6 @@ package io.spine.validate;
 
 import com.google.protobuf.ByteString;
 
-import java.util.Set;
-
 /**
  * Validates fields of type {@link ByteString}.
  */
@@ -57,10 +55,4 @@ class ByteStringFieldValidator extends FieldValidator<ByteString> {
                 .build();
         addViolation(violation);
     }
-
-    @Override
-    protected Set<FieldValidatingOption<?, ByteString>>
-    createMoreOptions(ValidatingOptionFactory factory) {
-        return factory.forByteString();
-    }
 }
@@ -21,19 +21,35 @@
 package io.spine.validate;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
 import io.spine.base.FieldPath;
 import io.spine.type.TypeName;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
-import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.spine.protobuf.TypeConverter.toAny;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 
 /**
  * A repeated field constraint that requires values to be distinct.
  *
+ * <p>Values of message fields are compared by their deterministic serialized form rather than
+ * by {@link Message#equals(Object)}. The serialized bytes are hashed once and compared by
+ * their content only on a hash collision, while the generated {@code hashCode()} and
+ * {@code equals()} walk the whole message tree for every new instance.
+ *
  * @param <T>
  *         type of values that this constraint is applicable to
  */
@@ -43,23 +59,35 @@ final class DistinctConstraint<T> extends FieldValueConstraint<T, Boolean> {
         super(optionValue);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports no more than the {@linkplain ViolationLimits#perField() per-field limit}
+     * of duplicates. The rest of them are only counted.
+     */
     @Override
     public ImmutableList<ConstraintViolation> check(FieldValue<T> fieldValue) {
         ImmutableList<T> values = fieldValue.asList();
-        Set<T> duplicates = findDuplicates(values);
-        ImmutableList<ConstraintViolation> violations =
-                duplicates.stream()
-                          .map(duplicate -> distinctViolated(fieldValue, duplicate))
-                          .collect(toImmutableList());
-        return violations;
+        Function<T, ?> key = keyFunction(fieldValue);
+        Collection<T> duplicates = findDuplicates(values, key);
+        if (duplicates.isEmpty()) {
+            return ImmutableList.of();
+        }
+        FieldPath path = fieldValue.context()
+                                   .fieldPath();
+        TypeName declaringTypeName = fieldValue.declaration()
+                                               .declaringType()
+                                               .name();
+        ViolationCollector violations = ViolationCollector.perField();
+        for (T duplicate : duplicates) {
+            violations.add(() -> distinctViolated(path, declaringTypeName, duplicate));
+        }
+        return violations.build(declaringTypeName.value(), path);
     }
 
-    private ConstraintViolation distinctViolated(FieldValue<T> value, T duplicate) {
-        FieldPath path = value.context()
-                              .fieldPath();
-        TypeName declaringTypeName = value.declaration()
-                                          .declaringType()
-                                          .name();
+    private ConstraintViolation distinctViolated(FieldPath path,
+                                                 TypeName declaringTypeName,
+                                                 T duplicate) {
         return ConstraintViolation
                 .newBuilder()
                 .setMsgFormat("Values must be distinct.")
@@ -69,16 +97,58 @@ final class DistinctConstraint<T> extends FieldValueConstraint<T, Boolean> {
                 .build();
     }
 
-    private static <T> Set<T> findDuplicates(Iterable<T> potentialDuplicates) {
-        Set<T> uniques = new HashSet<>();
-        ImmutableSet.Builder<T> duplicates = ImmutableSet.builder();
-        for (T potentialDuplicate : potentialDuplicates) {
-            if (uniques.contains(potentialDuplicate)) {
-                duplicates.add(potentialDuplicate);
-            } else {
-                uniques.add(potentialDuplicate);
+    /**
+     * Obtains the function which maps a value to the key to compare values by.
+     */
+    private static <T> Function<T, ?> keyFunction(FieldValue<T> fieldValue) {
+        return fieldValue.javaType() == JavaType.MESSAGE
+               ? value -> deterministicBytes((Message) value)
+               : Function.identity();
+    }
+
+    /**
+     * Serializes the passed message so that equal messages always produce the same bytes.
+     *
+     * <p>Deterministic serialization orders the entries of {@code map} fields by their keys,
+     * which is the only source of difference between serialized forms of equal messages.
+     */
+    private static ByteString deterministicBytes(Message message) {
+        byte[] bytes = new byte[message.getSerializedSize()];
+        CodedOutputStream stream = CodedOutputStream.newInstance(bytes);
+        stream.useDeterministicSerialization();
+        try {
+            message.writeTo(stream);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        stream.checkNoSpaceLeft();
+        return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+
+    /**
+     * Finds duplicates among the passed values.
+     *
+     * <p>The key of each value is computed once. The duplicates are collected only after
+     * the first one is found, so that valid values, which is the common case, are checked
+     * without collecting duplicates.
+     *
+     * @return a single instance for each value which occurs more than once, or an empty
+     *         collection if all the values are distinct
+     */
+    private static <T> Collection<T> findDuplicates(List<T> values, Function<T, ?> key) {
+        Set<Object> uniques = new HashSet<>(values.size());
+        @Nullable Map<Object, T> duplicates = null;
+        for (T value : values) {
+            Object valueKey = key.apply(value);
+            if (!uniques.add(valueKey)) {
+                if (duplicates == null) {
+                    duplicates = new LinkedHashMap<>();
+                }
+                duplicates.putIfAbsent(valueKey, value);
             }
         }
-        return duplicates.build();
+        return duplicates == null
+               ? ImmutableList.of()
+               : duplicates.values();
     }
 }
@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import java.util.Set;
-
 import static java.lang.Math.abs;
 
 /**
@@ -50,10 +48,4 @@ final class DoubleFieldValidator extends FloatFieldValidatorBase<Double> {
         Double abs = abs(value);
         return abs;
     }
-
-    @Override
-    protected Set<FieldValidatingOption<?, Double>> createMoreOptions(
-            ValidatingOptionFactory factory) {
-        return factory.forDouble();
-    }
 }
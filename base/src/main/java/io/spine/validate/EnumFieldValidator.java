@@ -22,8 +22,6 @@ package io.spine.validate;
 
 import com.google.protobuf.Descriptors.EnumValueDescriptor;
 
-import java.util.Set;
-
 /**
  * Validates fields of type {@link EnumValueDescriptor}.
  */
@@ -45,10 +43,4 @@ class EnumFieldValidator extends FieldValidator<EnumValueDescriptor> {
         boolean result = intValue <= 0;
         return result;
     }
-
-    @Override
-    protected Set<FieldValidatingOption<?, EnumValueDescriptor>>
-    createMoreOptions(ValidatingOptionFactory factory) {
-        return factory.forEnum();
-    }
 }
@@ -26,7 +26,9 @@ import com.google.protobuf.ProtocolMessageEnum;
 import com.google.protobuf.Value;
 import io.spine.annotation.Internal;
 import io.spine.base.Error;
+import io.spine.base.FieldPath;
 import io.spine.type.MessageClass;
+import io.spine.type.TypeName;
 import io.spine.validate.diags.ViolationText;
 
 import java.util.Map;
@@ -56,16 +58,28 @@ public abstract class ExceptionFactory<E extends Exception,
      * Creates an {@code ExceptionFactory} instance for a given message and
      * constraint violations.
      *
+     * <p>Only the first {@linkplain ViolationLimits#perMessage() per-message limit} of
+     * violations is kept. The rest of them is reported by a single truncation marker.
+     *
      * @param message
      *         an invalid event message
      * @param violations
      *         constraint violations for the event message
      */
     protected ExceptionFactory(M message, Iterable<ConstraintViolation> violations) {
-        this.constraintViolations = ImmutableList.copyOf(violations);
+        this.constraintViolations = limited(message, violations);
         this.message = message;
     }
 
+    private static ImmutableList<ConstraintViolation> limited(
+            Message message, Iterable<ConstraintViolation> violations) {
+        ViolationCollector collector = ViolationCollector.perMessage();
+        collector.addAll(violations);
+        String typeName = TypeName.of(message)
+                                  .value();
+        return collector.build(typeName, FieldPath.getDefaultInstance());
+    }
+
     /**
      * Obtains a {@code MessageClass} for an invalid {@code Message}.
      */
@@ -94,17 +108,17 @@ public abstract class ExceptionFactory<E extends Exception,
      */
     protected abstract E createException(String exceptionMsg, M message, Error error);
 
-    private String formatExceptionMessage() {
+    private String formatExceptionMessage(String violationsText) {
         return format("%s. Message class: `%s`. %s",
-                      getErrorText(), getMessageClass(), violationsText());
+                      getErrorText(), getMessageClass(), violationsText);
     }
 
-    private Error createError() {
+    private Error createError(String violationsText) {
         ValidationError validationError = error();
         R errorCode = getErrorCode();
         String errorType = errorCode.getDescriptorForType()
                                     .getFullName();
-        String errorText = errorText();
+        String errorText = getErrorText() + ' ' + violationsText;
 
         Error.Builder error = Error
                 .newBuilder()
@@ -123,21 +137,17 @@ public abstract class ExceptionFactory<E extends Exception,
                 .build();
     }
 
-    private String errorText() {
-        String errorTextTemplate = getErrorText();
-        String violationsText = violationsText();
-        return format("%s %s", errorTextTemplate, violationsText);
-    }
-
-    private String violationsText() {
-        return ViolationText.ofAll(constraintViolations);
-    }
-
     /**
      * Creates an exception instance for an invalid message, which has fields that
      * violate validation constraint(s).
+     *
+     * <p>The violations are formatted once, even though the text is used both by the exception
+     * message and by the {@code Error}.
      */
     public E newException() {
-        return createException(formatExceptionMessage(), message, createError());
+        String violationsText = ViolationText.ofAll(constraintViolations);
+        return createException(formatExceptionMessage(violationsText),
+                               message,
+                               createError(violationsText));
     }
 }
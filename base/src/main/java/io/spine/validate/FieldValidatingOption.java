@@ -106,6 +106,14 @@ public abstract class FieldValidatingOption<T, F>
                : valueFrom(field);
     }
 
+    /**
+     * Obtains the name of this option as declared in Protobuf.
+     */
+    String name() {
+        return extension().getDescriptor()
+                          .getName();
+    }
+
     /**
      * Returns {@code true} if this option exists for the specified field, {@code false} otherwise.
      *
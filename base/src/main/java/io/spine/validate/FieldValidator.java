@@ -23,6 +23,7 @@ package io.spine.validate;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
 import com.google.protobuf.Message;
 import io.spine.base.FieldPath;
 import io.spine.code.proto.FieldContext;
@@ -32,15 +33,18 @@ import io.spine.option.IfInvalidOption;
 import io.spine.option.IfMissingOption;
 import io.spine.option.OptionsProto;
 import io.spine.type.TypeName;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Lists.newLinkedList;
-import static com.google.common.collect.Sets.union;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.concat;
 
 /**
  * Validates messages according to Spine custom Protobuf options and
@@ -58,7 +62,25 @@ public abstract class FieldValidator<V> implements Logging {
 
     private final List<ConstraintViolation> violations = newLinkedList();
 
-    private final ImmutableSet<FieldValidatingOption<?, V>> fieldValidatingOptions;
+    /**
+     * Custom validating options applicable to fields, keyed by field descriptors.
+     */
+    private static final Map<FieldDescriptor, ImmutableSet<FieldValidatingOption<?, ?>>>
+            customOptionsByField = new ConcurrentHashMap<>();
+
+    private static final ImmutableSet<FieldValidatingOption<?, ?>> COMMON_OPTIONS =
+            ImmutableSet.of(Distinct.create(), Required.create(false));
+
+    private static final ImmutableSet<FieldValidatingOption<?, ?>> STRICT_COMMON_OPTIONS =
+            ImmutableSet.of(Distinct.create(), Required.create(true));
+
+    private final ImmutableSet<FieldValidatingOption<?, V>> commonOptions;
+
+    /**
+     * The options created by the {@linkplain ValidatingOptionsLoader loaded} factories, which
+     * are set for the validated field.
+     */
+    private final ImmutableSet<FieldValidatingOption<?, V>> customOptions;
 
     /**
      * If set the validator would assume that the field is required even
@@ -82,22 +104,35 @@ public abstract class FieldValidator<V> implements Logging {
         this.values = value.asList();
         this.assumeRequired = assumeRequired;
         this.ifInvalid = ifInvalid(descriptor(value));
-        ImmutableSet<FieldValidatingOption<?, V>> commonOptions = commonOptions(assumeRequired);
-        ImmutableSet<FieldValidatingOption<?, V>> additionalOptions = additionalOptions();
-        this.fieldValidatingOptions = ImmutableSet.copyOf(union(commonOptions, additionalOptions));
+        this.commonOptions = commonOptions(assumeRequired);
+        this.customOptions = customOptions(value);
     }
 
-    private ImmutableSet<FieldValidatingOption<?, V>> additionalOptions() {
-        ImmutableSet<FieldValidatingOption<?, V>> options = ValidatingOptionsLoader.INSTANCE
-                .implementations()
-                .stream()
-                .flatMap(factory -> createMoreOptions(factory).stream())
-                .collect(toImmutableSet());
-        return options;
+    /**
+     * Obtains the custom options set for the field of the passed value.
+     *
+     * <p>The options are selected once per field among the options
+     * {@linkplain ValidatingOptionsLoader#optionsFor(JavaType) loaded} for the field type.
+     */
+    @SuppressWarnings("unchecked") // The options are loaded for the type of the field values.
+    private static <V> ImmutableSet<FieldValidatingOption<?, V>>
+    customOptions(FieldValue<V> value) {
+        FieldDescriptor field = descriptor(value);
+        ImmutableSet<FieldValidatingOption<?, ?>> options = customOptionsByField.computeIfAbsent(
+                field, f -> applicableOptions(f, value.javaType())
+        );
+        return (ImmutableSet<FieldValidatingOption<?, V>>) (ImmutableSet<?>) options;
     }
 
-    protected abstract Set<FieldValidatingOption<?, V>> createMoreOptions(
-            ValidatingOptionFactory factory);
+    private static ImmutableSet<FieldValidatingOption<?, ?>>
+    applicableOptions(FieldDescriptor field, JavaType type) {
+        ImmutableSet<FieldValidatingOption<?, ?>> options =
+                ValidatingOptionsLoader.INSTANCE.optionsFor(type)
+                                                .stream()
+                                                .filter(option -> option.shouldValidate(field))
+                                                .collect(toImmutableSet());
+        return options;
+    }
 
     /**
      * Checks if the value of the validated field is not set.
@@ -137,6 +172,10 @@ public abstract class FieldValidator<V> implements Logging {
      *     <li>performs type-specific validation according to validation options.
      * </ol>
      *
+     * <p>No more than the {@linkplain ViolationLimits#perField() per-field limit} of
+     * violations is returned. If there are more, the rest of them is reported by
+     * a single truncation marker.
+     *
      * @return a list of found {@linkplain ConstraintViolation constraint violations} if any
      */
     protected ImmutableList<ConstraintViolation> validate() {
@@ -145,10 +184,12 @@ public abstract class FieldValidator<V> implements Logging {
         }
         List<ConstraintViolation> ownViolations = assembleViolations();
         List<ConstraintViolation> optionViolations = optionViolations();
-        ImmutableList.Builder<ConstraintViolation> result = ImmutableList.builder();
-        result.addAll(ownViolations)
-              .addAll(optionViolations);
-        return result.build();
+        ViolationCollector result = ViolationCollector.perField();
+        result.addAll(ownViolations);
+        result.addAll(optionViolations);
+        TypeName typeName = declaration.declaringType()
+                                       .name();
+        return result.build(typeName.value(), fieldPath());
     }
 
     protected final IfInvalidOption ifInvalid() {
@@ -162,13 +203,27 @@ public abstract class FieldValidator<V> implements Logging {
     }
 
     private List<ConstraintViolation> optionViolations() {
+        Stream<FieldValidatingOption<?, V>> common =
+                commonOptions.stream()
+                             .filter(option -> option.shouldValidate(descriptor()));
+        Stream<FieldValidatingOption<?, V>> options = customOptions.isEmpty()
+                                                      ? common
+                                                      : concat(common, customOptions.stream());
+        ValidationListener listener = ValidationListeners.INSTANCE.listener();
         List<ConstraintViolation> violations =
-                fieldValidatingOptions.stream()
-                                      .filter(option -> option.shouldValidate(descriptor()))
-                                      .map(option -> option.constraintFor(value))
-                                      .map(constraint -> constraint.check(value))
-                                      .flatMap(List::stream)
-                                      .collect(toList());
+                options.map(option -> check(option, listener))
+                       .flatMap(List::stream)
+                       .collect(toList());
+        return violations;
+    }
+
+    private List<ConstraintViolation> check(FieldValidatingOption<?, V> option,
+                                            @Nullable ValidationListener listener) {
+        List<ConstraintViolation> violations = option.constraintFor(value)
+                                                     .check(value);
+        if (listener != null) {
+            listener.onConstraintChecked(descriptor(), option.name(), violations.size());
+        }
         return violations;
     }
 
@@ -323,8 +378,11 @@ public abstract class FieldValidator<V> implements Logging {
         return declaration;
     }
 
+    @SuppressWarnings("unchecked") // The common options are applicable to fields of any type.
     private static <V> ImmutableSet<FieldValidatingOption<?, V>> commonOptions(boolean strict) {
-        return ImmutableSet.of(Distinct.create(),
-                               Required.create(strict));
+        ImmutableSet<FieldValidatingOption<?, ?>> options = strict
+                                                            ? STRICT_COMMON_OPTIONS
+                                                            : COMMON_OPTIONS;
+        return (ImmutableSet<FieldValidatingOption<?, V>>) (ImmutableSet<?>) options;
     }
 }
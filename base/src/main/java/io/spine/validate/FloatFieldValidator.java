@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import java.util.Set;
-
 import static java.lang.Math.abs;
 
 /**
@@ -50,9 +48,4 @@ class FloatFieldValidator extends FloatFieldValidatorBase<Float> {
         Float abs = abs(value);
         return abs;
     }
-
-    @Override
-    protected Set<FieldValidatingOption<?, Float>> createMoreOptions(ValidatingOptionFactory factory) {
-        return factory.forFloat();
-    }
 }
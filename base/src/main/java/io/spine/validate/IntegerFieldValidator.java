@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import java.util.Set;
-
 import static java.lang.Math.abs;
 
 /**
@@ -50,10 +48,4 @@ class IntegerFieldValidator extends NumberFieldValidator<Integer> {
         Integer abs = abs(value);
         return abs;
     }
-
-    @Override
-    protected Set<FieldValidatingOption<?, Integer>> createMoreOptions(
-            ValidatingOptionFactory factory) {
-        return factory.forInt();
-    }
 }
@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import java.util.Set;
-
 import static java.lang.Math.abs;
 
 /**
@@ -50,9 +48,4 @@ class LongFieldValidator extends NumberFieldValidator<Long> {
         Long abs = abs(value);
         return abs;
     }
-
-    @Override
-    protected Set<FieldValidatingOption<?, Long>> createMoreOptions(ValidatingOptionFactory factory) {
-        return factory.forLong();
-    }
 }
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Descriptors.OneofDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import com.google.protobuf.WireFormat;
+import io.spine.type.MessageType;
+import io.spine.type.UnknownTypeException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.Messages.defaultInstance;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * The values of the fields of a message decoded from its serialized form.
+ *
+ * <p>The values are read in a single pass over the message bytes, without creating
+ * the message itself. Malformed bytes are thus rejected before any object graph is allocated.
+ *
+ * <p>The values of message-typed fields are kept in their serialized form while reading.
+ * Such a value is parsed into a message only when it is {@linkplain #valueOf(FieldDescriptor)
+ * obtained}.
+ *
+ * <p>The values are represented the same way as {@link Message#getField(FieldDescriptor)}
+ * represents them, except that values of {@code map} fields are given as a list of
+ * the map values, since only the values are validated.
+ */
+final class MessageBytes {
+
+    /**
+     * Default instances of message types keyed by the descriptors of the types.
+     */
+    private static final Map<Descriptor, Message> prototypes = new ConcurrentHashMap<>();
+
+    private static final int MAP_VALUE_NUMBER = 2;
+
+    private final Descriptor descriptor;
+    private final Map<FieldDescriptor, Object> values = new HashMap<>();
+    private final Map<OneofDescriptor, FieldDescriptor> oneofCases = new HashMap<>();
+
+    private MessageBytes(Descriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Reads the field values of a message of the given type from the passed input.
+     *
+     * @param descriptor
+     *         the type of the message
+     * @param input
+     *         the serialized message
+     * @return the decoded field values
+     * @throws InvalidProtocolBufferException
+     *         if the input is not a valid serialized message
+     */
+    static MessageBytes read(Descriptor descriptor, CodedInputStream input)
+            throws InvalidProtocolBufferException {
+        checkNotNull(descriptor);
+        checkNotNull(input);
+        MessageBytes result = new MessageBytes(descriptor);
+        try {
+            result.readFields(input);
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        return result;
+    }
+
+    private void readFields(CodedInputStream input) throws IOException {
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int number = WireFormat.getTagFieldNumber(tag);
+            FieldDescriptor field = descriptor.findFieldByNumber(number);
+            if (field == null) {
+                input.skipField(tag);
+            } else if (isPacked(field, tag)) {
+                readPacked(field, input);
+            } else {
+                read(field, input);
+            }
+        }
+    }
+
+    /** Returns the type of the message. */
+    Descriptor descriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Obtains the value of the given field.
+     *
+     * <p>If the field is absent in the serialized message, returns the default value of
+     * the field.
+     */
+    Object valueOf(FieldDescriptor field) {
+        Object value = values.get(field);
+        if (value != null) {
+            Object parsed = parsed(value);
+            if (parsed != value) {
+                values.put(field, parsed);
+            }
+            return parsed;
+        }
+        if (field.isRepeated()) {
+            return new ArrayList<>();
+        }
+        if (field.getJavaType() == JavaType.MESSAGE) {
+            return prototypeOf(field.getMessageType());
+        }
+        return field.getDefaultValue();
+    }
+
+    /**
+     * Parses the serialized messages in the given value.
+     *
+     * @return the parsed value, or the same value if it has no serialized messages
+     */
+    private static Object parsed(Object value) {
+        if (value instanceof SerializedMessage) {
+            return ((SerializedMessage) value).parse();
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            if (list.stream()
+                    .anyMatch(SerializedMessage.class::isInstance)) {
+                List<Object> result = new ArrayList<>(list.size());
+                list.forEach(element -> result.add(parsed(element)));
+                return result;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Obtains the field set in the given {@code Oneof}.
+     *
+     * @return the descriptor of the set field or {@code null} if no field is set
+     */
+    @Nullable FieldDescriptor oneofCase(OneofDescriptor oneof) {
+        return oneofCases.get(oneof);
+    }
+
+    private static boolean isPacked(FieldDescriptor field, int tag) {
+        return field.isRepeated()
+                && field.isPackable()
+                && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    }
+
+    private void readPacked(FieldDescriptor field, CodedInputStream input) throws IOException {
+        int length = input.readRawVarint32();
+        int limit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            add(field, readValue(field, input));
+        }
+        input.popLimit(limit);
+    }
+
+    private void read(FieldDescriptor field, CodedInputStream input) throws IOException {
+        Object value = field.isMapField()
+                       ? readMapValue(field, input)
+                       : readValue(field, input);
+        if (field.isRepeated()) {
+            add(field, value);
+        } else {
+            set(field, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked") // Values of repeated fields are always stored as lists.
+    private void add(FieldDescriptor field, Object value) {
+        List<Object> list = (List<Object>) values.computeIfAbsent(field, f -> new ArrayList<>());
+        list.add(value);
+    }
+
+    /**
+     * Sets the value of a singular field.
+     *
+     * <p>Following the Protobuf rules, the last value wins for a scalar field, and all the values
+     * are merged for a message field. Since merging serialized messages is the same as
+     * concatenating their bytes, the message values are concatenated without being parsed.
+     */
+    private void set(FieldDescriptor field, Object value) {
+        Object previous = values.get(field);
+        Object newValue;
+        if (previous instanceof SerializedMessage) {
+            newValue = ((SerializedMessage) previous).merge((SerializedMessage) value);
+        } else if (previous instanceof Message) {
+            newValue = ((Message) previous).toBuilder()
+                                           .mergeFrom((Message) value)
+                                           .build();
+        } else {
+            newValue = value;
+        }
+        values.put(field, newValue);
+        OneofDescriptor oneof = field.getContainingOneof();
+        if (oneof != null) {
+            FieldDescriptor previousCase = oneofCases.put(oneof, field);
+            if (previousCase != null && !previousCase.equals(field)) {
+                values.remove(previousCase);
+            }
+        }
+    }
+
+    /**
+     * Reads the value of a map entry skipping the key.
+     */
+    private static Object readMapValue(FieldDescriptor field, CodedInputStream input)
+            throws IOException {
+        FieldDescriptor valueField = field.getMessageType()
+                                          .findFieldByNumber(MAP_VALUE_NUMBER);
+        Object value = null;
+        int length = input.readRawVarint32();
+        int limit = input.pushLimit(length);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == MAP_VALUE_NUMBER) {
+                value = readValue(valueField, input);
+            } else {
+                input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        if (value != null) {
+            return value;
+        }
+        return valueField.getJavaType() == JavaType.MESSAGE
+               ? prototypeOf(valueField.getMessageType())
+               : valueField.getDefaultValue();
+    }
+
+    @SuppressWarnings({"OverlyComplexMethod", "OverlyLongMethod"}) // Covers all the field types.
+    private static Object readValue(FieldDescriptor field, CodedInputStream input)
+            throws IOException {
+        switch (field.getType()) {
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case INT64:
+                return input.readInt64();
+            case UINT64:
+                return input.readUInt64();
+            case INT32:
+                return input.readInt32();
+            case FIXED64:
+                return input.readFixed64();
+            case FIXED32:
+                return input.readFixed32();
+            case BOOL:
+                return input.readBool();
+            case STRING:
+                return input.readStringRequireUtf8();
+            case BYTES:
+                return input.readBytes();
+            case UINT32:
+                return input.readUInt32();
+            case SFIXED32:
+                return input.readSFixed32();
+            case SFIXED64:
+                return input.readSFixed64();
+            case SINT32:
+                return input.readSInt32();
+            case SINT64:
+                return input.readSInt64();
+            case ENUM:
+                EnumDescriptor enumType = field.getEnumType();
+                return enumType.findValueByNumberCreatingIfUnknown(input.readEnum());
+            case MESSAGE:
+                return new SerializedMessage(field.getMessageType(), input.readBytes());
+            case GROUP:
+                return readGroup(field, input);
+            default:
+                throw newIllegalStateException("Unsupported field type: `%s`.", field.getType());
+        }
+    }
+
+    /**
+     * Reads the value of a group field.
+     *
+     * <p>Unlike messages, groups are not length-delimited, so they are parsed right away.
+     */
+    private static Message readGroup(FieldDescriptor field, CodedInputStream input)
+            throws IOException {
+        Parser<? extends Message> parser = prototypeOf(field.getMessageType()).getParserForType();
+        Message result = input.readGroup(field.getNumber(), parser,
+                                         ExtensionRegistryLite.getEmptyRegistry());
+        return result;
+    }
+
+    /**
+     * Obtains the default instance of the given type.
+     *
+     * <p>If the Java class of the type is not available, a {@link DynamicMessage} is used.
+     */
+    private static Message prototypeOf(Descriptor type) {
+        return prototypes.computeIfAbsent(type, MessageBytes::loadPrototype);
+    }
+
+    private static Message loadPrototype(Descriptor type) {
+        try {
+            Class<? extends Message> cls = new MessageType(type).javaClass();
+            return defaultInstance(cls);
+        } catch (UnknownTypeException e) {
+            return DynamicMessage.getDefaultInstance(type);
+        }
+    }
+
+    /**
+     * A value of a message field which is not parsed yet.
+     */
+    private static final class SerializedMessage {
+
+        private final Descriptor type;
+        private final ByteString bytes;
+
+        private SerializedMessage(Descriptor type, ByteString bytes) {
+            this.type = type;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Merges this message with the given one, which is read later.
+         */
+        private SerializedMessage merge(SerializedMessage later) {
+            return new SerializedMessage(type, bytes.concat(later.bytes));
+        }
+
+        /**
+         * Parses the message.
+         *
+         * @throws IllegalArgumentException
+         *         if the bytes are not a valid serialized message
+         */
+        private Message parse() {
+            Parser<? extends Message> parser = prototypeOf(type).getParserForType();
+            try {
+                return parser.parseFrom(bytes);
+            } catch (InvalidProtocolBufferException e) {
+                throw newIllegalArgumentException(
+                        e, "The serialized message of type `%s` is malformed.", type.getFullName()
+                );
+            }
+        }
+    }
+}
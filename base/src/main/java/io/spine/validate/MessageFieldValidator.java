@@ -28,7 +28,6 @@ import io.spine.protobuf.AnyPacker;
 import io.spine.type.TypeName;
 
 import java.util.List;
-import java.util.Set;
 
 import static io.spine.protobuf.AnyPacker.pack;
 import static io.spine.validate.Validate.isDefault;
@@ -83,12 +82,6 @@ final class MessageFieldValidator extends FieldValidator<Message> {
         return result;
     }
 
-    @Override
-    protected Set<FieldValidatingOption<?, Message>> createMoreOptions(
-            ValidatingOptionFactory factory) {
-        return factory.forMessage();
-    }
-
     @SuppressWarnings("MethodOnlyUsedFromInnerClass") // Proper encapsulation here.
     private boolean isOfType(Class<? extends Message> type) {
         ImmutableList<Message> values = values();
@@ -21,13 +21,21 @@
 package io.spine.validate;
 
 import com.google.common.collect.ImmutableList;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Descriptors.OneofDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
+import io.spine.base.FieldPath;
 import io.spine.code.proto.FieldContext;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * Validates messages according to Spine custom Protobuf options and
  * provides found constraint violations.
@@ -50,6 +58,59 @@ public class MessageValidator {
         return new MessageValidator(messageValue);
     }
 
+    /**
+     * Creates a validator for a top-level message in its serialized form.
+     *
+     * <p>The field values are read in a single pass over the bytes without creating
+     * the message itself. The values of message-typed fields are parsed into messages only
+     * when they are validated. If such a value is malformed, the {@link #validate()} method
+     * throws an {@code IllegalArgumentException}.
+     *
+     * <p>The values of message-typed fields refer to the passed bytes rather than copy them.
+     *
+     * @param type
+     *         the type of the message
+     * @param bytes
+     *         the serialized message
+     * @throws InvalidProtocolBufferException
+     *         if the bytes are not a valid serialized message
+     */
+    public static MessageValidator newInstance(Descriptor type, ByteString bytes)
+            throws InvalidProtocolBufferException {
+        checkNotNull(bytes);
+        CodedInputStream input = bytes.newCodedInput();
+        input.enableAliasing(true);
+        return newInstance(type, input);
+    }
+
+    /**
+     * Creates a validator for a top-level message in its serialized form.
+     *
+     * <p>The field values are read in a single pass over the remaining bytes of the buffer
+     * without creating the message itself. The values of message-typed fields are parsed into
+     * messages only when they are validated. If such a value is malformed, the
+     * {@link #validate()} method throws an {@code IllegalArgumentException}.
+     *
+     * @param type
+     *         the type of the message
+     * @param bytes
+     *         the serialized message
+     * @throws InvalidProtocolBufferException
+     *         if the bytes are not a valid serialized message
+     */
+    public static MessageValidator newInstance(Descriptor type, ByteBuffer bytes)
+            throws InvalidProtocolBufferException {
+        checkNotNull(bytes);
+        return newInstance(type, CodedInputStream.newInstance(bytes));
+    }
+
+    private static MessageValidator newInstance(Descriptor type, CodedInputStream input)
+            throws InvalidProtocolBufferException {
+        MessageBytes message = MessageBytes.read(type, input);
+        MessageValue messageValue = MessageValue.atTopLevel(message);
+        return new MessageValidator(messageValue);
+    }
+
     /**
      * Creates a validator for a message inside another message.
      *
@@ -66,12 +127,42 @@ public class MessageValidator {
     /**
      * Validates messages according to Spine custom protobuf options and returns constraint
      * violations found.
+     *
+     * <p>No more than the {@linkplain ViolationLimits#perMessage() per-message limit} of
+     * violations is returned. If there are more, the rest of them is reported by
+     * a single truncation marker.
+     *
+     * <p>If there is a {@linkplain ValidationListener validation listener}, it is notified
+     * of the time spent on the validation.
      */
     public List<ConstraintViolation> validate() {
+        ValidationListener listener = ValidationListeners.INSTANCE.listener();
+        if (listener == null) {
+            return doValidate();
+        }
+        long start = System.nanoTime();
+        List<ConstraintViolation> violations = doValidate();
+        long elapsed = System.nanoTime() - start;
+        FieldPath path = message.context()
+                                .fieldPath();
+        listener.onMessageValidated(message.descriptor(),
+                                    path.getFieldNameCount(),
+                                    elapsed,
+                                    violations.size());
+        return violations;
+    }
+
+    private List<ConstraintViolation> doValidate() {
         validateAlternativeFields();
         validateOneofFields();
         validateFields();
-        return result.build();
+        ViolationCollector violations = ViolationCollector.perMessage();
+        violations.addAll(result.build());
+        String typeName = message.descriptor()
+                                 .getFullName();
+        FieldPath path = message.context()
+                                .fieldPath();
+        return violations.build(typeName, path);
     }
 
     private void validateAlternativeFields() {
@@ -30,6 +30,7 @@ import io.spine.type.MessageType;
 
 import javax.annotation.Nullable;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -37,19 +38,45 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 
 /**
  * A value of a {@link Message} to validate.
+ *
+ * <p>The values of the fields are obtained either from a message instance or
+ * from {@linkplain MessageBytes the serialized form} of a message.
  */
 final class MessageValue {
 
-    private final Message message;
     private final Descriptor descriptor;
+    private final Function<FieldDescriptor, Object> fieldValues;
+
+    /**
+     * Obtains the field set in a {@code Oneof}, or {@code null} if none is set.
+     */
+    private final Function<OneofDescriptor, FieldDescriptor> oneofCases;
     private final FieldContext context;
 
-    private MessageValue(Message message, FieldContext context) {
-        this.message = checkNotNull(message);
-        this.descriptor = message.getDescriptorForType();
+    private MessageValue(Descriptor descriptor,
+                         Function<FieldDescriptor, Object> fieldValues,
+                         Function<OneofDescriptor, FieldDescriptor> oneofCases,
+                         FieldContext context) {
+        this.descriptor = descriptor;
+        this.fieldValues = fieldValues;
+        this.oneofCases = oneofCases;
         this.context = checkNotNull(context);
     }
 
+    private MessageValue(Message message, FieldContext context) {
+        this(checkNotNull(message).getDescriptorForType(),
+             message::getField,
+             message::getOneofFieldDescriptor,
+             context);
+    }
+
+    private MessageValue(MessageBytes message, FieldContext context) {
+        this(checkNotNull(message).descriptor(),
+             message::valueOf,
+             message::oneofCase,
+             context);
+    }
+
     /**
      * Creates a value of a message field.
      *
@@ -74,6 +101,17 @@ final class MessageValue {
         return new MessageValue(message, FieldContext.empty());
     }
 
+    /**
+     * Creates a value of a top-level message decoded from its serialized form.
+     *
+     * @param message
+     *         the field values of the message that is <b>not</b> a part of another message
+     * @return a new instance
+     */
+    static MessageValue atTopLevel(MessageBytes message) {
+        return new MessageValue(message, FieldContext.empty());
+    }
+
     Descriptor descriptor(){
         return descriptor;
     }
@@ -123,7 +161,7 @@ final class MessageValue {
      */
     Optional<FieldValue<?>> valueOf(OneofDescriptor oneof) {
         checkArgument(oneofDescriptors().contains(oneof));
-        FieldDescriptor field = message.getOneofFieldDescriptor(oneof);
+        FieldDescriptor field = oneofCases.apply(oneof);
         return valueOfNullable(field);
     }
 
@@ -147,7 +185,7 @@ final class MessageValue {
 
     private FieldValue<?> valueOf(FieldDescriptor field) {
         FieldContext fieldContext = context.forChild(field);
-        FieldValue<?> value = FieldValue.of(message.getField(field), fieldContext);
+        FieldValue<?> value = FieldValue.of(fieldValues.apply(field), fieldContext);
         return value;
     }
 
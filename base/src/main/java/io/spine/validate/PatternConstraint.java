@@ -25,7 +25,6 @@ import io.spine.base.FieldPath;
 import io.spine.option.PatternOption;
 import io.spine.type.TypeName;
 
-import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.spine.validate.FieldValidator.errorMsgFormat;
 
 /**
@@ -38,26 +37,33 @@ final class PatternConstraint extends FieldValueConstraint<String, PatternOption
         super(optionValue);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports no more than the {@linkplain ViolationLimits#perField() per-field limit}
+     * of mismatching values. The rest of them are only counted.
+     */
     @Override
     public ImmutableList<ConstraintViolation> check(FieldValue<String> fieldValue) {
         String regex = optionValue().getRegex();
         ImmutableList<String> values = fieldValue.asList();
-        ImmutableList<ConstraintViolation> violations =
-                values.stream()
-                      .filter(value -> !value.matches(regex))
-                      .map(value -> newViolation(fieldValue))
-                      .collect(toImmutableList());
-        return violations;
-    }
-
-    private ConstraintViolation newViolation(FieldValue<String> fieldValue) {
-        String msg = errorMsgFormat(optionValue(), optionValue().getMsgFormat());
         FieldPath fieldPath = fieldValue.context()
                                         .fieldPath();
-        String regex = optionValue().getRegex();
         TypeName declaringType = fieldValue.declaration()
                                            .declaringType()
                                            .name();
+        ViolationCollector violations = ViolationCollector.perField();
+        for (String value : values) {
+            if (!value.matches(regex)) {
+                violations.add(() -> newViolation(fieldPath, declaringType));
+            }
+        }
+        return violations.build(declaringType.value(), fieldPath);
+    }
+
+    private ConstraintViolation newViolation(FieldPath fieldPath, TypeName declaringType) {
+        String msg = errorMsgFormat(optionValue(), optionValue().getMsgFormat());
+        String regex = optionValue().getRegex();
         ConstraintViolation violation = ConstraintViolation
                 .newBuilder()
                 .setMsgFormat(msg)
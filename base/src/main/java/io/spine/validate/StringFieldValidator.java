@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import java.util.Set;
-
 /**
  * Validates fields of type {@link String}.
  */
@@ -40,12 +38,6 @@ class StringFieldValidator extends FieldValidator<String> {
         super(fieldValue, assumeRequired);
     }
 
-    @Override
-    protected Set<FieldValidatingOption<?, String>> createMoreOptions(
-            ValidatingOptionFactory factory) {
-        return factory.forString();
-    }
-
     @Override
     protected boolean isNotSet(String value) {
         boolean result = value.isEmpty();
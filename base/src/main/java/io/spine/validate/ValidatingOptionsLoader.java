@@ -20,11 +20,16 @@
 
 package io.spine.validate;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
 import io.spine.annotation.Internal;
 
 import java.util.ServiceLoader;
+import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static java.util.ServiceLoader.load;
 
 /**
@@ -39,9 +44,16 @@ public enum ValidatingOptionsLoader {
 
     private final ImmutableSet<ValidatingOptionFactory> implementations;
 
+    /**
+     * The options created by all the {@linkplain #implementations() implementations} grouped
+     * by the type of the fields they are applied to.
+     */
+    private final ImmutableMap<JavaType, ImmutableSet<FieldValidatingOption<?, ?>>> optionsByType;
+
     ValidatingOptionsLoader() {
         ServiceLoader<ValidatingOptionFactory> loader = load(ValidatingOptionFactory.class);
         this.implementations = ImmutableSet.copyOf(loader);
+        this.optionsByType = groupByType(implementations);
     }
 
     /**
@@ -56,4 +68,58 @@ public enum ValidatingOptionsLoader {
     public ImmutableSet<ValidatingOptionFactory> implementations() {
         return implementations;
     }
+
+    /**
+     * Obtains the options created by all the {@linkplain #implementations() implementations}
+     * for the fields of the given type.
+     *
+     * <p>For a {@code map} field, the type of the map values should be passed.
+     *
+     * @implNote The options are created once, when the enum instance is created.
+     */
+    public ImmutableSet<FieldValidatingOption<?, ?>> optionsFor(JavaType type) {
+        checkNotNull(type);
+        return optionsByType.get(type);
+    }
+
+    private static ImmutableMap<JavaType, ImmutableSet<FieldValidatingOption<?, ?>>>
+    groupByType(ImmutableSet<ValidatingOptionFactory> factories) {
+        ImmutableMap.Builder<JavaType, ImmutableSet<FieldValidatingOption<?, ?>>> result =
+                ImmutableMap.builder();
+        for (JavaType type : JavaType.values()) {
+            ImmutableSet<FieldValidatingOption<?, ?>> options =
+                    factories.stream()
+                             .flatMap(factory -> optionsOf(factory, type).stream())
+                             .collect(toImmutableSet());
+            result.put(type, options);
+        }
+        return result.build();
+    }
+
+    @SuppressWarnings("OverlyComplexMethod") // Covers all the field types.
+    private static Set<? extends FieldValidatingOption<?, ?>>
+    optionsOf(ValidatingOptionFactory factory, JavaType type) {
+        switch (type) {
+            case INT:
+                return factory.forInt();
+            case LONG:
+                return factory.forLong();
+            case FLOAT:
+                return factory.forFloat();
+            case DOUBLE:
+                return factory.forDouble();
+            case BOOLEAN:
+                return factory.forBoolean();
+            case STRING:
+                return factory.forString();
+            case BYTE_STRING:
+                return factory.forByteString();
+            case ENUM:
+                return factory.forEnum();
+            case MESSAGE:
+                return factory.forMessage();
+            default:
+                return ImmutableSet.of();
+        }
+    }
 }
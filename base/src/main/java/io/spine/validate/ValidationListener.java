@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.annotation.SPI;
+
+import java.util.ServiceLoader;
+
+/**
+ * A listener of the validation process.
+ *
+ * <p>Receives the time spent on validating messages and the results of checking
+ * field constraints. May be used for collecting metrics or tracing the validation.
+ *
+ * <p>This interface is designed as a Service Provider Interface. The implementations are
+ * {@linkplain ValidationListeners loaded} via the {@link ServiceLoader} mechanism. If there are
+ * no implementations, the validation does not measure or report anything.
+ *
+ * <p>The implementations must be thread-safe, as messages may be validated concurrently.
+ *
+ * @see ValidationMetrics
+ */
+@SPI
+public interface ValidationListener {
+
+    /**
+     * Called when a message is validated.
+     *
+     * <p>Messages validated because of the {@code (valid)} option of a field in an enclosing
+     * message are reported before the enclosing message.
+     *
+     * @param type
+     *         the type of the validated message
+     * @param depth
+     *         the nesting level of the message, {@code 0} for a top-level message
+     * @param elapsedNanos
+     *         the time spent on validating the message, including the nested messages
+     * @param violationCount
+     *         the number of the found violations
+     */
+    default void onMessageValidated(Descriptor type,
+                                    int depth,
+                                    long elapsedNanos,
+                                    int violationCount) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when a constraint imposed by a validating option is checked against a field value.
+     *
+     * @param field
+     *         the validated field
+     * @param option
+     *         the name of the validating option, e.g. {@code "pattern"}
+     * @param violationCount
+     *         the number of violations of the constraint
+     */
+    default void onConstraintChecked(FieldDescriptor field, String option, int violationCount) {
+        // Do nothing by default.
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ServiceLoader;
+
+import static java.util.ServiceLoader.load;
+
+/**
+ * Loads the implementations of {@link ValidationListener} using a {@link ServiceLoader}.
+ *
+ * <p>Caches the loaded results and never reloads the services.
+ */
+@Internal
+public enum ValidationListeners {
+
+    INSTANCE;
+
+    private final ImmutableList<ValidationListener> implementations;
+
+    /**
+     * The listener combining the loaded implementations, or {@code null} if there are none.
+     */
+    private final @Nullable ValidationListener loaded;
+
+    /**
+     * The listener to notify, or {@code null} if there are no listeners.
+     *
+     * <p>Is the {@linkplain #loaded loaded} listener, unless replaced in tests.
+     */
+    @SuppressWarnings("ImmutableEnumChecker") // Is only replaced in tests.
+    private volatile @Nullable ValidationListener listener;
+
+    ValidationListeners() {
+        ServiceLoader<ValidationListener> loader = load(ValidationListener.class);
+        this.implementations = ImmutableList.copyOf(loader);
+        this.loaded = combine(implementations);
+        this.listener = loaded;
+    }
+
+    /**
+     * Obtains all the implementations of {@link ValidationListener} available at current runtime.
+     */
+    public ImmutableList<ValidationListener> implementations() {
+        return implementations;
+    }
+
+    /**
+     * Obtains the listener which notifies all the loaded implementations.
+     *
+     * @return the listener or {@code null} if there are no implementations, so that
+     *         the validation may skip measuring what no one listens to
+     */
+    @Nullable ValidationListener listener() {
+        return listener;
+    }
+
+    /**
+     * Makes the validation notify the given listener instead of the loaded ones.
+     *
+     * <p>Passing {@code null} turns the notifications off.
+     */
+    @VisibleForTesting
+    void replaceListener(@Nullable ValidationListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Restores the notification of the loaded listeners.
+     */
+    @VisibleForTesting
+    void restoreListener() {
+        this.listener = loaded;
+    }
+
+    private static @Nullable ValidationListener
+    combine(ImmutableList<ValidationListener> listeners) {
+        switch (listeners.size()) {
+            case 0:
+                return null;
+            case 1:
+                return listeners.get(0);
+            default:
+                return new Composite(listeners);
+        }
+    }
+
+    /**
+     * Notifies several listeners in the order they were loaded.
+     */
+    private static final class Composite implements ValidationListener {
+
+        private final ImmutableList<ValidationListener> listeners;
+
+        private Composite(ImmutableList<ValidationListener> listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void onMessageValidated(Descriptor type,
+                                       int depth,
+                                       long elapsedNanos,
+                                       int violationCount) {
+            for (ValidationListener listener : listeners) {
+                listener.onMessageValidated(type, depth, elapsedNanos, violationCount);
+            }
+        }
+
+        @Override
+        public void onConstraintChecked(FieldDescriptor field, String option, int violationCount) {
+            for (ValidationListener listener : listeners) {
+                listener.onConstraintChecked(field, option, violationCount);
+            }
+        }
+    }
+}
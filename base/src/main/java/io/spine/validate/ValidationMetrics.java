@@ -0,0 +1,393 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+
+/**
+ * A {@link ValidationListener} which aggregates validation metrics.
+ *
+ * <p>Collects, per message type, the number of validations and failed validations, and
+ * a histogram of the validation time. Per validating option of each field, collects the number
+ * of checked constraints and the number of violations. Per field, collects the number
+ * of violations.
+ *
+ * <p>The counters are based on {@link LongAdder}s, so that recording a value is cheap
+ * under contention. The collected values can be obtained as a {@linkplain #snapshot() snapshot}.
+ *
+ * <p>To enable the metrics, register this class as a {@link ValidationListener} service
+ * implementation in {@code META-INF/services}. The loaded instance is available via
+ * {@link #loaded()}.
+ */
+public final class ValidationMetrics implements ValidationListener {
+
+    /**
+     * The number of the histogram buckets.
+     *
+     * <p>A bucket with the index {@code i} counts the durations in the range
+     * {@code [2^i, 2^(i+1))} nanoseconds. The bucket {@code 0} also counts zero durations.
+     */
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final ConcurrentMap<String, MessageCounters> messages = new ConcurrentHashMap<>();
+    /**
+     * The counters of constraint checks by the full names of the fields and then by the names
+     * of the validating options.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, ConstraintCounters>> constraints =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> fieldViolations = new ConcurrentHashMap<>();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Obtains the instance of this class loaded as a {@link ValidationListener}.
+     *
+     * @return the loaded instance or {@code Optional.empty()} if the metrics are not registered
+     *         as a service implementation
+     */
+    public static Optional<ValidationMetrics> loaded() {
+        return ValidationListeners.INSTANCE
+                .implementations()
+                .stream()
+                .filter(ValidationMetrics.class::isInstance)
+                .map(ValidationMetrics.class::cast)
+                .findFirst();
+    }
+
+    @Override
+    public void onMessageValidated(Descriptor type,
+                                   int depth,
+                                   long elapsedNanos,
+                                   int violationCount) {
+        counters(messages, type.getFullName(), name -> new MessageCounters())
+                .record(elapsedNanos, violationCount);
+        maxDepth.accumulate(depth);
+    }
+
+    @Override
+    public void onConstraintChecked(FieldDescriptor field, String option, int violationCount) {
+        String fieldName = field.getFullName();
+        ConcurrentMap<String, ConstraintCounters> fieldConstraints =
+                counters(constraints, fieldName, name -> new ConcurrentHashMap<>());
+        counters(fieldConstraints, option, name -> new ConstraintCounters())
+                .record(violationCount);
+        if (violationCount > 0) {
+            counters(fieldViolations, fieldName, name -> new LongAdder())
+                    .add(violationCount);
+        }
+    }
+
+    /**
+     * Obtains the counters by the given key, creating them if needed.
+     *
+     * <p>Looks up the existing counters first, so that the common case does not lock.
+     */
+    private static <C> C counters(ConcurrentMap<String, C> map,
+                                  String key,
+                                  Function<String, C> create) {
+        C counters = map.get(key);
+        if (counters == null) {
+            counters = map.computeIfAbsent(key, create);
+        }
+        return counters;
+    }
+
+    /**
+     * Obtains the current values of the metrics.
+     *
+     * <p>The values recorded concurrently with taking the snapshot may or may not be included.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(snapshot(messages, MessageCounters::snapshot),
+                            constraintsSnapshot(),
+                            snapshot(fieldViolations, LongAdder::sum),
+                            (int) maxDepth.get());
+    }
+
+    private static <C, S> ImmutableMap<String, S> snapshot(Map<String, C> counters,
+                                                          Function<C, S> toSnapshot) {
+        return counters.entrySet()
+                       .stream()
+                       .collect(toImmutableMap(Map.Entry::getKey,
+                                               entry -> toSnapshot.apply(entry.getValue())));
+    }
+
+    private ImmutableTable<String, String, ConstraintStats> constraintsSnapshot() {
+        ImmutableTable.Builder<String, String, ConstraintStats> result = ImmutableTable.builder();
+        constraints.forEach(
+                (field, options) -> options.forEach(
+                        (option, counters) -> result.put(field, option, counters.snapshot())
+                )
+        );
+        return result.build();
+    }
+
+    /**
+     * Clears all the collected metrics.
+     */
+    public void reset() {
+        messages.clear();
+        constraints.clear();
+        fieldViolations.clear();
+        maxDepth.reset();
+    }
+
+    /**
+     * The counters of validations of a message type.
+     */
+    private static final class MessageCounters {
+
+        private final LongAdder validations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] histogram = new LongAdder[BUCKET_COUNT];
+
+        private MessageCounters() {
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        private void record(long elapsedNanos, int violationCount) {
+            validations.increment();
+            if (violationCount > 0) {
+                failures.increment();
+            }
+            long nanos = Math.max(elapsedNanos, 0);
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram[bucketOf(nanos)].increment();
+        }
+
+        private static int bucketOf(long nanos) {
+            return nanos == 0
+                   ? 0
+                   : BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(nanos);
+        }
+
+        private MessageStats snapshot() {
+            ImmutableList.Builder<Long> buckets = ImmutableList.builder();
+            for (LongAdder bucket : histogram) {
+                buckets.add(bucket.sum());
+            }
+            return new MessageStats(validations.sum(),
+                                    failures.sum(),
+                                    totalNanos.sum(),
+                                    maxNanos.get(),
+                                    buckets.build());
+        }
+    }
+
+    /**
+     * The counters of checks of a validating option.
+     */
+    private static final class ConstraintCounters {
+
+        private final LongAdder checks = new LongAdder();
+        private final LongAdder violations = new LongAdder();
+
+        private void record(int violationCount) {
+            checks.increment();
+            violations.add(violationCount);
+        }
+
+        private ConstraintStats snapshot() {
+            return new ConstraintStats(checks.sum(), violations.sum());
+        }
+    }
+
+    /**
+     * The values of the validation metrics at some point in time.
+     */
+    public static final class Snapshot {
+
+        private final ImmutableMap<String, MessageStats> messages;
+        private final ImmutableTable<String, String, ConstraintStats> constraints;
+        private final ImmutableMap<String, Long> fieldViolations;
+        private final int maxDepth;
+
+        private Snapshot(ImmutableMap<String, MessageStats> messages,
+                         ImmutableTable<String, String, ConstraintStats> constraints,
+                         ImmutableMap<String, Long> fieldViolations,
+                         int maxDepth) {
+            this.messages = messages;
+            this.constraints = constraints;
+            this.fieldViolations = fieldViolations;
+            this.maxDepth = maxDepth;
+        }
+
+        /** Returns the validation statistics by the full names of the message types. */
+        public ImmutableMap<String, MessageStats> messages() {
+            return messages;
+        }
+
+        /**
+         * Returns the constraint statistics by the full names of the fields (rows) and
+         * the names of the validating options (columns).
+         */
+        public ImmutableTable<String, String, ConstraintStats> constraints() {
+            return constraints;
+        }
+
+        /** Returns the number of violations by the full names of the fields. */
+        public ImmutableMap<String, Long> fieldViolations() {
+            return fieldViolations;
+        }
+
+        /**
+         * Returns the deepest nesting level of a message validated because of
+         * the {@code (valid)} option.
+         */
+        public int maxDepth() {
+            return maxDepth;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("messages", messages)
+                              .add("constraints", constraints)
+                              .add("fieldViolations", fieldViolations)
+                              .add("maxDepth", maxDepth)
+                              .toString();
+        }
+    }
+
+    /**
+     * The statistics of validations of a message type.
+     */
+    public static final class MessageStats {
+
+        private final long validations;
+        private final long failures;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final ImmutableList<Long> histogram;
+
+        private MessageStats(long validations,
+                             long failures,
+                             long totalNanos,
+                             long maxNanos,
+                             ImmutableList<Long> histogram) {
+            this.validations = validations;
+            this.failures = failures;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.histogram = histogram;
+        }
+
+        /** Returns the number of validations. */
+        public long validations() {
+            return validations;
+        }
+
+        /** Returns the number of validations which found violations. */
+        public long failures() {
+            return failures;
+        }
+
+        /** Returns the total time spent on the validations. */
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        /** Returns the longest time spent on a single validation. */
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /** Returns the average time spent on a single validation. */
+        public long meanNanos() {
+            return validations == 0
+                   ? 0
+                   : totalNanos / validations;
+        }
+
+        /**
+         * Returns the number of validations which took from {@code 2^bucket} to
+         * {@code 2^(bucket+1)} nanoseconds.
+         */
+        public long countInBucket(int bucket) {
+            checkArgument(bucket >= 0 && bucket < BUCKET_COUNT,
+                          "The bucket index must be in [0, %s).", BUCKET_COUNT);
+            return histogram.get(bucket);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("validations", validations)
+                              .add("failures", failures)
+                              .add("meanNanos", meanNanos())
+                              .add("maxNanos", maxNanos)
+                              .toString();
+        }
+    }
+
+    /**
+     * The statistics of checks of a validating option.
+     */
+    public static final class ConstraintStats {
+
+        private final long checks;
+        private final long violations;
+
+        private ConstraintStats(long checks, long violations) {
+            this.checks = checks;
+            this.violations = violations;
+        }
+
+        /** Returns the number of checked constraints. */
+        public long checks() {
+            return checks;
+        }
+
+        /** Returns the number of violations of the constraints. */
+        public long violations() {
+            return violations;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("checks", checks)
+                              .add("violations", violations)
+                              .toString();
+        }
+    }
+}
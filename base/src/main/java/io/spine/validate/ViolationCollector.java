@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.FieldPath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates constraint violations up to a limit.
+ *
+ * <p>Violations added after the limit is reached are not created, but only counted.
+ * The count is then reported by a single {@linkplain ViolationLimits#truncationMarker
+ * truncation marker}.
+ */
+final class ViolationCollector {
+
+    private final int limit;
+    private final List<ConstraintViolation> violations = new ArrayList<>();
+    private int omitted;
+
+    private ViolationCollector(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a collector bounded by the {@linkplain ViolationLimits#perField() per-field} limit.
+     */
+    static ViolationCollector perField() {
+        return new ViolationCollector(ViolationLimits.current()
+                                                     .perField());
+    }
+
+    /**
+     * Creates a collector bounded by
+     * the {@linkplain ViolationLimits#perMessage() per-message} limit.
+     */
+    static ViolationCollector perMessage() {
+        return new ViolationCollector(ViolationLimits.current()
+                                                     .perMessage());
+    }
+
+    /**
+     * Adds a violation, creating it only if the limit is not reached yet.
+     */
+    void add(Supplier<ConstraintViolation> violation) {
+        if (isFull()) {
+            omitted++;
+        } else {
+            violations.add(violation.get());
+        }
+    }
+
+    /**
+     * Adds the passed violations.
+     *
+     * <p>Truncation markers among the violations are kept as long as the limit is not reached,
+     * so that they still tell the field of the omitted violations. Once the limit is reached,
+     * the violations the markers stand for are counted as omitted.
+     */
+    void addAll(Iterable<ConstraintViolation> violations) {
+        for (ConstraintViolation violation : violations) {
+            if (ViolationLimits.isTruncationMarker(violation) && isFull()) {
+                omitted += ViolationLimits.countOf(violation);
+            } else if (isFull()) {
+                omitted++;
+            } else {
+                this.violations.add(violation);
+            }
+        }
+    }
+
+    /**
+     * Checks if no more violations will be kept by this collector.
+     */
+    boolean isFull() {
+        return violations.size() >= limit;
+    }
+
+    /**
+     * Obtains the collected violations.
+     *
+     * <p>If some violations were omitted, the list ends with a truncation marker
+     * with the given type name and field path.
+     */
+    ImmutableList<ConstraintViolation> build(String typeName, FieldPath path) {
+        ImmutableList.Builder<ConstraintViolation> result = ImmutableList.builder();
+        result.addAll(violations);
+        if (omitted > 0) {
+            result.add(ViolationLimits.truncationMarker(omitted, typeName, path));
+        }
+        return result.build();
+    }
+}
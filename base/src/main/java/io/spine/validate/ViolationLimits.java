@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.spine.base.FieldPath;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Limits the number of constraint violations collected for a single field and
+ * for a single message.
+ *
+ * <p>A malformed message, e.g. one with a huge {@code repeated} field violating
+ * the {@code (distinct)} constraint, may otherwise produce an unbounded number of violations.
+ * Once a limit is reached, the remaining violations are only counted. A single
+ * {@linkplain #isTruncationMarker(ConstraintViolation) marker} violation telling how many
+ * violations were omitted is reported instead of them.
+ *
+ * <p>The default limits may be overridden via the {@value #PER_FIELD_PROPERTY} and
+ * {@value #PER_MESSAGE_PROPERTY} system properties, or by {@linkplain #setCurrent(ViolationLimits)
+ * setting} the limits programmatically.
+ */
+public final class ViolationLimits {
+
+    /**
+     * The name of the system property which sets the maximum number of violations
+     * collected per field.
+     */
+    public static final String PER_FIELD_PROPERTY = "io.spine.validate.maxViolationsPerField";
+
+    /**
+     * The name of the system property which sets the maximum number of violations
+     * collected per message.
+     */
+    public static final String PER_MESSAGE_PROPERTY = "io.spine.validate.maxViolationsPerMessage";
+
+    private static final int DEFAULT_PER_FIELD = 100;
+    private static final int DEFAULT_PER_MESSAGE = 1000;
+
+    private static final String TRUNCATED_FORMAT = "%s more violation(s) truncated.";
+
+    private static volatile ViolationLimits current = fromSystemProperties();
+
+    private final int perField;
+    private final int perMessage;
+
+    private ViolationLimits(int perField, int perMessage) {
+        this.perField = perField;
+        this.perMessage = perMessage;
+    }
+
+    /**
+     * Creates new limits.
+     *
+     * @param perField
+     *         the maximum number of violations reported for a single field
+     * @param perMessage
+     *         the maximum number of violations reported for a single message
+     * @return new instance
+     */
+    public static ViolationLimits of(int perField, int perMessage) {
+        checkArgument(perField > 0, "The per-field limit must be positive.");
+        checkArgument(perMessage > 0, "The per-message limit must be positive.");
+        return new ViolationLimits(perField, perMessage);
+    }
+
+    /**
+     * Obtains the limits which never truncate violations.
+     */
+    public static ViolationLimits unlimited() {
+        return new ViolationLimits(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Obtains the limits currently applied to the validation.
+     */
+    public static ViolationLimits current() {
+        return current;
+    }
+
+    /**
+     * Sets the limits to apply to all the subsequent validations.
+     */
+    public static void setCurrent(ViolationLimits limits) {
+        checkNotNull(limits);
+        current = limits;
+    }
+
+    /**
+     * Restores the limits defined by the system properties or the default ones.
+     */
+    @VisibleForTesting
+    public static void reset() {
+        current = fromSystemProperties();
+    }
+
+    /** Returns the maximum number of violations reported for a single field. */
+    public int perField() {
+        return perField;
+    }
+
+    /** Returns the maximum number of violations reported for a single message. */
+    public int perMessage() {
+        return perMessage;
+    }
+
+    /**
+     * Checks if the passed violation reports other violations omitted due to the limits.
+     *
+     * <p>A marker is recognized by its {@code omitted_violations} field, which constraint
+     * options never populate. The message format of the marker is used only for display.
+     */
+    public static boolean isTruncationMarker(ConstraintViolation violation) {
+        checkNotNull(violation);
+        return violation.getOmittedViolations() > 0;
+    }
+
+    /**
+     * Obtains the number of violations that the passed violation stands for.
+     *
+     * @return the number of omitted violations for a truncation marker, {@code 1} otherwise
+     */
+    public static int countOf(ConstraintViolation violation) {
+        checkNotNull(violation);
+        return isTruncationMarker(violation)
+               ? violation.getOmittedViolations()
+               : 1;
+    }
+
+    /**
+     * Obtains the text telling that the given number of violations was omitted.
+     */
+    public static String truncationText(int omitted) {
+        return String.format(TRUNCATED_FORMAT, omitted);
+    }
+
+    /**
+     * Creates a violation which tells how many violations were omitted.
+     */
+    static ConstraintViolation truncationMarker(int omitted, String typeName, FieldPath path) {
+        return ConstraintViolation
+                .newBuilder()
+                .setMsgFormat(TRUNCATED_FORMAT)
+                .addParam(String.valueOf(omitted))
+                .setOmittedViolations(omitted)
+                .setTypeName(typeName)
+                .setFieldPath(path)
+                .build();
+    }
+
+    private static ViolationLimits fromSystemProperties() {
+        int perField = Integer.getInteger(PER_FIELD_PROPERTY, DEFAULT_PER_FIELD);
+        int perMessage = Integer.getInteger(PER_MESSAGE_PROPERTY, DEFAULT_PER_MESSAGE);
+        return of(perField, perMessage);
+    }
+}
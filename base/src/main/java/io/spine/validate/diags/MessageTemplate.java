@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate.diags;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.System.lineSeparator;
+
+/**
+ * A precompiled template of a constraint violation message.
+ *
+ * <p>The {@code msg_format} strings of the validation options contain only {@code %s}
+ * placeholders. Such a string is parsed once into the literal parts, which are then joined with
+ * the parameters without {@link String#format(String, Object...) String.format()}.
+ *
+ * <p>The {@code %%} and {@code %n} sequences are supported as well. If a format string contains
+ * other format specifiers, or if there are fewer parameters than placeholders, the message is
+ * formatted via {@code String.format()}.
+ */
+@Immutable
+public final class MessageTemplate {
+
+    private static final char PERCENT = '%';
+
+    /**
+     * The maximum number of the compiled templates kept in the cache.
+     */
+    private static final int MAX_CACHED_TEMPLATES = 1_000;
+
+    /**
+     * The recently used templates by their format strings.
+     *
+     * <p>Besides the {@code msg_format} strings of the validation options, the format strings
+     * may be composed at runtime, so the cache is bounded.
+     */
+    private static final LoadingCache<String, MessageTemplate> templates =
+            CacheBuilder.newBuilder()
+                        .maximumSize(MAX_CACHED_TEMPLATES)
+                        .build(CacheLoader.from(MessageTemplate::compile));
+
+    private final String format;
+
+    /**
+     * The literal parts of the format, which are separated by placeholders.
+     *
+     * <p>Is empty if the format cannot be handled without {@code String.format()}.
+     */
+    private final ImmutableList<String> parts;
+
+    private MessageTemplate(String format, ImmutableList<String> parts) {
+        this.format = format;
+        this.parts = parts;
+    }
+
+    /**
+     * Obtains the template for the given format string.
+     */
+    public static MessageTemplate of(String format) {
+        checkNotNull(format);
+        MessageTemplate template = templates.getUnchecked(format);
+        return template;
+    }
+
+    private static MessageTemplate compile(String format) {
+        ImmutableList.Builder<String> parts = ImmutableList.builder();
+        StringBuilder part = new StringBuilder(format.length());
+        int length = format.length();
+        for (int i = 0; i < length; i++) {
+            char c = format.charAt(i);
+            if (c != PERCENT) {
+                part.append(c);
+                continue;
+            }
+            char next = i + 1 < length ? format.charAt(i + 1) : 0;
+            switch (next) {
+                case 's':
+                    parts.add(part.toString());
+                    part.setLength(0);
+                    break;
+                case PERCENT:
+                    part.append(PERCENT);
+                    break;
+                case 'n':
+                    part.append(lineSeparator());
+                    break;
+                default:
+                    return new MessageTemplate(format, ImmutableList.of());
+            }
+            i++;
+        }
+        parts.add(part.toString());
+        return new MessageTemplate(format, parts.build());
+    }
+
+    /**
+     * Obtains the number of the {@code %s} placeholders in the template.
+     */
+    private int placeholderCount() {
+        return parts.size() - 1;
+    }
+
+    /**
+     * Formats the message with the given parameters.
+     */
+    public String format(List<String> params) {
+        checkNotNull(params);
+        StringBuilder result = new StringBuilder();
+        appendTo(result, params);
+        return result.toString();
+    }
+
+    /**
+     * Appends the message formatted with the given parameters to the given builder.
+     *
+     * <p>As {@code String.format()} does, ignores the parameters which do not have placeholders.
+     */
+    public void appendTo(StringBuilder target, List<String> params) {
+        checkNotNull(target);
+        checkNotNull(params);
+        if (parts.isEmpty() || params.size() < placeholderCount()) {
+            target.append(String.format(format, params.toArray()));
+            return;
+        }
+        target.append(parts.get(0));
+        for (int i = 1; i < parts.size(); i++) {
+            target.append(params.get(i - 1))
+                  .append(parts.get(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format;
+    }
+}
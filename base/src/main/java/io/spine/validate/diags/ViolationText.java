@@ -22,15 +22,16 @@ package io.spine.validate.diags;
 
 import io.spine.base.FieldPaths;
 import io.spine.validate.ConstraintViolation;
+import io.spine.validate.ViolationLimits;
 
 import java.util.Collection;
-import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.string.Diags.backtick;
-import static java.lang.String.format;
+import static io.spine.validate.ViolationLimits.countOf;
+import static io.spine.validate.ViolationLimits.isTruncationMarker;
+import static io.spine.validate.ViolationLimits.truncationText;
 import static java.lang.System.lineSeparator;
-import static java.util.stream.Collectors.joining;
 
 /**
  * Provides error diagnostic text for a violation of a validation constraint.
@@ -56,41 +57,74 @@ public final class ViolationText {
     /**
      * Creates text with diagnostics for the passed violations, starting each of them from
      * a new line.
+     *
+     * <p>Only the first {@linkplain ViolationLimits#perMessage() per-message limit} of
+     * violations is formatted. The rest of them is reported by their number.
+     *
+     * <p>The {@linkplain ViolationLimits#isTruncationMarker(ConstraintViolation) truncation
+     * markers} are always formatted and do not count against the limit.
      */
     public static String ofAll(Collection<ConstraintViolation> violations) {
-        String result =
-                violations.stream()
-                          .map(ViolationText::of)
-                          .map(ViolationText::toString)
-                          .collect(joining(lineSeparator()));
-        return result;
+        checkNotNull(violations);
+        int limit = ViolationLimits.current()
+                                   .perMessage();
+        StringBuilder result = new StringBuilder();
+        int formatted = 0;
+        int omitted = 0;
+        for (ConstraintViolation violation : violations) {
+            boolean marker = isTruncationMarker(violation);
+            if (!marker && formatted == limit) {
+                omitted++;
+                continue;
+            }
+            if (result.length() > 0) {
+                result.append(lineSeparator());
+            }
+            of(violation).appendTo(result);
+            if (!marker) {
+                formatted++;
+            }
+        }
+        if (omitted > 0) {
+            if (result.length() > 0) {
+                result.append(lineSeparator());
+            }
+            result.append(truncationText(omitted));
+        }
+        return result.toString();
     }
 
     @Override
     public String toString() {
-        StringBuilder builder = buildMessage();
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    private void appendTo(StringBuilder builder) {
+        appendMessage(builder);
         for (ConstraintViolation violation : this.violation.getViolationList()) {
             builder.append(lineSeparator());
             ViolationText nested = of(violation);
-            builder.append(nested.toString());
+            nested.appendTo(builder);
         }
-        return builder.toString();
     }
 
-    private StringBuilder buildMessage() {
+    private void appendMessage(StringBuilder builder) {
         String typeName = violation.getTypeName();
+        appendPrefix(builder, typeName);
 
-        String fieldPath = FieldPaths.toString(violation.getFieldPath());
-
-        String format = violation.getMsgFormat();
-        List<String> params = violation.getParamList();
-        String formattedMessage = format(format, params.toArray());
+        if (violation.hasFieldPath()) {
+            String fieldPath = FieldPaths.toString(violation.getFieldPath());
+            appendPrefix(builder, fieldPath);
+        }
 
-        StringBuilder result = new StringBuilder();
-        appendPrefix(result, typeName);
-        appendPrefix(result, fieldPath);
-        result.append(formattedMessage);
-        return result;
+        if (isTruncationMarker(violation)) {
+            builder.append(truncationText(countOf(violation)));
+        } else {
+            MessageTemplate template = MessageTemplate.of(violation.getMsgFormat());
+            template.appendTo(builder, violation.getParamList());
+        }
     }
 
     private static void appendPrefix(StringBuilder target, String prefix) {
@@ -28,6 +28,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -104,6 +106,17 @@ class EnvironmentTest extends UtilityClassTest<Environment> {
         assertFalse(environment.isProduction());
     }
 
+    @Test
+    @DisplayName("tell that we are not under tests if no known framework is in the call stack")
+    void noTestFrameworkInStack() throws InterruptedException {
+        AtomicBoolean tests = new AtomicBoolean(true);
+        Thread thread = new Thread(() -> tests.set(environment.isTests()));
+        thread.start();
+        thread.join();
+
+        assertFalse(tests.get());
+    }
+
     @Test
     @DisplayName("tell that we are not under tests if env set to something else")
     void environmentVarUknownValue() {
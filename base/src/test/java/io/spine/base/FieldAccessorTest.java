@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import io.spine.test.protobuf.AnyHolder;
+import io.spine.test.protobuf.GenericHolder;
+import io.spine.test.protobuf.StringHolder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.FieldPaths.compile;
+import static io.spine.base.FieldPaths.getValue;
+import static io.spine.base.FieldPaths.parse;
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("FieldAccessor should")
+class FieldAccessorTest {
+
+    @Test
+    @DisplayName("obtain the same value as `FieldPaths.getValue`")
+    void obtainValue() {
+        Any value = pack(Time.currentTime());
+        GenericHolder holder = GenericHolder
+                .newBuilder()
+                .setAny(AnyHolder.newBuilder()
+                                 .setVal(value))
+                .build();
+        FieldPath path = parse("any.val.type_url");
+        FieldAccessor accessor = compile(path, GenericHolder.class);
+
+        assertEquals(getValue(path, holder), accessor.get(holder));
+    }
+
+    @Test
+    @DisplayName("obtain a message value")
+    void obtainMessage() {
+        StringHolder str = StringHolder
+                .newBuilder()
+                .setVal("foo")
+                .build();
+        GenericHolder holder = GenericHolder
+                .newBuilder()
+                .setStr(str)
+                .build();
+        FieldAccessor accessor = compile(parse("str"), GenericHolder.class);
+
+        assertEquals(str, accessor.get(holder));
+    }
+
+    @Test
+    @DisplayName("obtain numeric values without boxing")
+    void obtainPrimitives() {
+        Timestamp timestamp = Timestamp
+                .newBuilder()
+                .setSeconds(42L)
+                .setNanos(314)
+                .build();
+        FieldAccessor seconds = compile(parse("seconds"), Timestamp.class);
+        FieldAccessor nanos = compile(parse("nanos"), Timestamp.class);
+
+        assertThat(seconds.getLong(timestamp)).isEqualTo(42L);
+        assertThat(seconds.getDouble(timestamp)).isEqualTo(42.0);
+        assertThat(nanos.getLong(timestamp)).isEqualTo(314L);
+        assertThat(seconds.get(timestamp)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("not obtain a non-numeric value as a number")
+    void failOnNonNumeric() {
+        StringHolder holder = StringHolder
+                .newBuilder()
+                .setVal("42")
+                .build();
+        FieldAccessor accessor = compile(parse("val"), StringHolder.class);
+
+        assertThrows(IllegalStateException.class, () -> accessor.getLong(holder));
+        assertThrows(IllegalStateException.class, () -> accessor.getDouble(holder));
+    }
+
+    @Test
+    @DisplayName("not accept a message of another type")
+    void failOnWrongHolder() {
+        FieldAccessor accessor = compile(parse("val"), StringHolder.class);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> accessor.get(Timestamp.getDefaultInstance()));
+    }
+
+    @Test
+    @DisplayName("fail to compile a path to a missing field")
+    void failOnMissingField() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> compile(parse("str.value"), GenericHolder.class));
+    }
+
+    @Test
+    @DisplayName("fail to compile a path through a non-message field")
+    void failOnNonMessageField() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> compile(parse("val.value"), StringHolder.class));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.Field;
+import com.google.protobuf.Timestamp;
+import io.spine.test.protobuf.GenericHolder;
+import io.spine.test.protobuf.StringHolder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.protobuf.Field.Kind.TYPE_INT64;
+import static com.google.protobuf.Field.Kind.TYPE_STRING;
+import static io.spine.base.MessageFilter.compile;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.TypeConverter.toAny;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MessageFilter should")
+class MessageFilterTest {
+
+    @Test
+    @DisplayName("accept all messages if there are no field filters")
+    void acceptAll() {
+        MessageFilter<Field> filter = compile(Field.class, ImmutableList.of());
+
+        assertTrue(filter.test(Field.getDefaultInstance()));
+    }
+
+    @Test
+    @DisplayName("filter by an integral field")
+    void integral() {
+        MessageFilter<Field> filter = compile(Field.class,
+                                              ImmutableList.of(filter("number", 1, 42)));
+
+        assertTrue(filter.test(field("a", 42, TYPE_STRING)));
+        assertFalse(filter.test(field("a", 2, TYPE_STRING)));
+    }
+
+    @Test
+    @DisplayName("filter by an enum field")
+    void enumField() {
+        MessageFilter<Field> filter = compile(Field.class,
+                                              ImmutableList.of(filter("kind", TYPE_INT64)));
+
+        assertTrue(filter.test(field("a", 1, TYPE_INT64)));
+        assertFalse(filter.test(field("a", 1, TYPE_STRING)));
+    }
+
+    @Test
+    @DisplayName("filter by a string field")
+    void stringField() {
+        MessageFilter<Field> filter = compile(Field.class,
+                                              ImmutableList.of(filter("name", "a", "b")));
+
+        assertTrue(filter.test(field("b", 1, TYPE_STRING)));
+        assertFalse(filter.test(field("c", 1, TYPE_STRING)));
+    }
+
+    @Test
+    @DisplayName("filter by a nested message field")
+    void nestedMessage() {
+        StringHolder accepted = StringHolder
+                .newBuilder()
+                .setVal("foo")
+                .build();
+        FieldFilter fieldFilter = FieldFilter
+                .newBuilder()
+                .setFieldPath("str")
+                .addValue(pack(accepted))
+                .build();
+        MessageFilter<GenericHolder> filter = compile(GenericHolder.class,
+                                                      ImmutableList.of(fieldFilter));
+
+        assertTrue(filter.test(GenericHolder.newBuilder()
+                                            .setStr(accepted)
+                                            .build()));
+        assertFalse(filter.test(GenericHolder.getDefaultInstance()));
+    }
+
+    @Test
+    @DisplayName("require all field filters to match")
+    void conjunction() {
+        MessageFilter<Field> filter = compile(Field.class,
+                                              ImmutableList.of(filter("name", "a"),
+                                                               filter("number", 1)));
+
+        assertTrue(filter.test(field("a", 1, TYPE_STRING)));
+        assertFalse(filter.test(field("a", 2, TYPE_STRING)));
+        assertFalse(filter.test(field("b", 1, TYPE_STRING)));
+    }
+
+    @Test
+    @DisplayName("select matching messages preserving the order")
+    void filterMany() {
+        List<Field> fields = IntStream.range(0, 5000)
+                                      .mapToObj(i -> field("f" + i, i, TYPE_STRING))
+                                      .collect(toImmutableList());
+        MessageFilter<Field> filter = compile(Field.class,
+                                              ImmutableList.of(filter("number", 4000, 7, 100)));
+
+        ImmutableList<Field> result = filter.filter(fields);
+
+        assertThat(result).containsExactly(fields.get(7), fields.get(100), fields.get(4000))
+                          .inOrder();
+    }
+
+    @Test
+    @DisplayName("not accept a filter without values")
+    void noValues() {
+        FieldFilter empty = FieldFilter
+                .newBuilder()
+                .setFieldPath("name")
+                .build();
+        assertThrows(IllegalArgumentException.class,
+                     () -> compile(Field.class, ImmutableList.of(empty)));
+    }
+
+    @Test
+    @DisplayName("not accept a filter by a missing field")
+    void missingField() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> compile(Field.class, ImmutableList.of(filter("foo", 1))));
+    }
+
+    @Test
+    @DisplayName("not accept a filter by a repeated field")
+    void repeatedField() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> compile(Field.class, ImmutableList.of(filter("options", 1))));
+    }
+
+    @Test
+    @DisplayName("not accept a message of another type")
+    void wrongType() {
+        @SuppressWarnings("rawtypes") // To pass a message of another type.
+        MessageFilter filter = compile(Field.class, ImmutableList.of(filter("number", 1)));
+
+        @SuppressWarnings("unchecked") // Checked at runtime.
+        Executable test = () -> filter.test(Timestamp.getDefaultInstance());
+        assertThrows(IllegalArgumentException.class, test);
+    }
+
+    private static FieldFilter filter(String path, Object... values) {
+        FieldFilter.Builder result = FieldFilter
+                .newBuilder()
+                .setFieldPath(path);
+        for (Object value : values) {
+            Any packed = toAny(value);
+            result.addValue(packed);
+        }
+        return result.build();
+    }
+
+    private static Field field(String name, int number, Field.Kind kind) {
+        return Field.newBuilder()
+                    .setName(name)
+                    .setNumber(number)
+                    .setKind(kind)
+                    .build();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.type.Type;
+import io.spine.type.TypeName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+
+@DisplayName("TypeCatalog should")
+class TypeCatalogTest {
+
+    private static final FileDescriptor DESCRIPTOR_PROTO = FileDescriptorSet.getDescriptor()
+                                                                            .getFile();
+
+    @Test
+    @DisplayName("index the same types as declared in the file")
+    void indexTypes() {
+        TypeCatalog catalog = catalogOf(DESCRIPTOR_PROTO);
+        TypeSet declared = TypeSet.from(DESCRIPTOR_PROTO);
+
+        assertThat(catalog.typeNames())
+                .containsExactlyElementsIn(declared.allTypes()
+                                                   .stream()
+                                                   .map(Type::name)
+                                                   .collect(toImmutableSet()));
+    }
+
+    @Test
+    @DisplayName("find a type by its name")
+    void findType() {
+        TypeCatalog catalog = catalogOf(DESCRIPTOR_PROTO);
+        TypeName name = TypeName.from(FileDescriptorSet.getDescriptor());
+
+        assertThat(catalog.contains(name)).isTrue();
+        Optional<Type<?, ?>> found = catalog.find(name);
+        assertThat(found).isPresent();
+        assertThat(found.get()
+                        .name()).isEqualTo(name);
+    }
+
+    @Test
+    @DisplayName("not find an unknown type")
+    void notFindUnknown() {
+        TypeCatalog catalog = catalogOf(DESCRIPTOR_PROTO);
+        TypeName name = TypeName.of("spine.test.UnknownType");
+
+        assertThat(catalog.contains(name)).isFalse();
+        assertThat(catalog.find(name)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("load all known types")
+    void loadKnownTypes() {
+        TypeCatalog catalog = TypeCatalog.load();
+        TypeSet typeSet = catalog.toTypeSet();
+
+        assertThat(typeSet.size()).isEqualTo(catalog.typeNames()
+                                                    .size());
+    }
+
+    private static TypeCatalog catalogOf(FileDescriptor file) {
+        ImmutableList<FileDescriptorProto> files = ImmutableList.of(file.toProto());
+        return TypeCatalog.of(files);
+    }
+}
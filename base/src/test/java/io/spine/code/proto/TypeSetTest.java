@@ -22,11 +22,17 @@ package io.spine.code.proto;
 
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import io.spine.type.Type;
 import io.spine.type.TypeName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
 
 @DisplayName("TypeSet should")
 class TypeSetTest {
@@ -55,6 +61,43 @@ class TypeSetTest {
                 .isNotEmpty();
     }
 
+    @Test
+    @DisplayName("unite types of several sets")
+    void unite() {
+        FileDescriptor timestamp = Timestamp.getDescriptor()
+                                            .getFile();
+        FileDescriptor duration = Duration.getDescriptor()
+                                          .getFile();
+        TypeSet first = TypeSet.from(timestamp);
+        TypeSet second = TypeSet.from(duration);
+
+        TypeSet union = first.union(second);
+        TypeSet built = TypeSet.newBuilder()
+                               .addAll(first)
+                               .addAll(second)
+                               .build();
+
+        assertThat(union.size()).isEqualTo(first.size() + second.size());
+        assertThat(union.contains(TypeName.of(Timestamp.getDescriptor()
+                                                       .getFullName()))).isTrue();
+        assertThat(union.contains(TypeName.of(Duration.getDescriptor()
+                                                      .getFullName()))).isTrue();
+        assertThat(built).isEqualTo(union);
+    }
+
+    @Test
+    @DisplayName("find types of all kinds")
+    void findAllKinds() {
+        TypeSet typeSet = TypeSet.from(fileSet);
+        for (Type<?, ?> type : typeSet.allTypes()) {
+            Optional<Type<?, ?>> found = typeSet.find(type.name());
+            assertThat(found).hasValue(type);
+            assertThat(found.get()
+                            .getClass()).isEqualTo(type.getClass());
+        }
+        assertThat(typeSet.find(TypeName.of("spine.test.Unknown"))).isEmpty();
+    }
+
     void assertNotEmpty(TypeSet typeSet) {
         assertThat(typeSet.isEmpty())
                 .isFalse();
@@ -26,9 +26,15 @@ import io.spine.logging.given.LoggingObject;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.NOPLogger;
 import org.slf4j.helpers.SubstituteLogger;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+
 import static io.spine.testing.logging.LogTruth.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 
 @DisplayName("Logging interface should")
 class LoggingTest {
@@ -43,4 +49,41 @@ class LoggingTest {
         assertLogger.isNotNull();
         assertLogger.isInstanceOf(SubstituteLogger.class);
     }
+
+    @Test
+    @DisplayName("not call a message supplier if the level is disabled")
+    void lazyMessage() {
+        Logging object = new MutedObject();
+        object._trace(() -> fail("The TRACE message must not be composed."));
+        object._debug(() -> fail("The DEBUG message must not be composed."));
+    }
+
+    @Test
+    @DisplayName("log a message obtained from a supplier")
+    void supplierMessage() {
+        Logging object = new Logging() {};
+        SubstituteLogger logger = (SubstituteLogger) object.log();
+        Queue<SubstituteLoggingEvent> queue = new ArrayDeque<>();
+        Logging.redirect(logger, queue);
+        String message = "Supplied message";
+
+        object._debug(() -> message);
+
+        assertThat(queue).hasSize(1);
+        assertThat(queue.peek()).hasMessageThat()
+                                .isEqualTo(message);
+    }
+
+    /**
+     * A logging object with a disabled logger cached in a field.
+     */
+    private static final class MutedObject implements Logging {
+
+        private final Logger log = NOPLogger.NOP_LOGGER;
+
+        @Override
+        public Logger log() {
+            return log;
+        }
+    }
 }
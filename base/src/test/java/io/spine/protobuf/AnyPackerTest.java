@@ -20,8 +20,11 @@
 
 package io.spine.protobuf;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Message;
 import com.google.protobuf.StringValue;
 import io.spine.test.protobuf.MessageToPack;
@@ -30,12 +33,16 @@ import io.spine.type.TypeUrl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Iterator;
 
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.AnyPacker.packAll;
 import static io.spine.protobuf.AnyPacker.unpack;
 import static io.spine.protobuf.AnyPacker.unpackFunc;
+import static io.spine.protobuf.AnyPacker.writeAll;
 import static io.spine.testing.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.testing.TestValues.newUuidValue;
 import static io.spine.testing.Tests.assertHasPrivateParameterlessCtor;
@@ -145,4 +152,38 @@ class AnyPackerTest {
 
         assertEquals(value, unpackFunc().apply(Any.pack(value)));
     }
+
+    @Test
+    @DisplayName("pack many messages")
+    void pack_all() {
+        Any alreadyPacked = pack(googleMsg);
+        ImmutableList<Message> messages = ImmutableList.of(spineMsg, googleMsg,
+                                                          alreadyPacked, StringValue.of(""));
+
+        ImmutableList<Any> packed = packAll(messages, ByteString.newOutput());
+
+        ImmutableList<Any> expected = ImmutableList.of(pack(spineMsg), pack(googleMsg),
+                                                       alreadyPacked, pack(StringValue.of("")));
+        assertEquals(expected, packed);
+        assertSame(alreadyPacked, packed.get(2));
+    }
+
+    @Test
+    @DisplayName("write many messages as delimited Any")
+    void write_all() throws IOException {
+        Any alreadyPacked = pack(googleMsg);
+        ImmutableList<Message> messages = ImmutableList.of(spineMsg, alreadyPacked, googleMsg);
+        ByteString.Output bytes = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+
+        writeAll(messages, output);
+        output.flush();
+
+        InputStream input = bytes.toByteString()
+                                 .newInput();
+        assertEquals(pack(spineMsg), Any.parseDelimitedFrom(input));
+        assertEquals(alreadyPacked, Any.parseDelimitedFrom(input));
+        assertEquals(pack(googleMsg), Any.parseDelimitedFrom(input));
+        assertNull(Any.parseDelimitedFrom(input));
+    }
 }
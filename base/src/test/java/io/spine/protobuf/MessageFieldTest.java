@@ -101,6 +101,21 @@ class MessageFieldTest {
         assertEquals(stringValue.getValue(), value);
     }
 
+    @Test
+    @DisplayName("return values of different fields of the same message type")
+    void return_values_of_different_fields() {
+        Timestamp timestamp = Timestamp
+                .newBuilder()
+                .setSeconds(42L)
+                .setNanos(314)
+                .build();
+        MessageField seconds = new TestMessageField(0);
+        MessageField nanos = new TestMessageField(1);
+
+        assertEquals(timestamp.getSeconds(), seconds.getValue(timestamp));
+        assertEquals(timestamp.getNanos(), nanos.getValue(timestamp));
+    }
+
     @Test
     @DisplayName("return field descriptor")
     void return_field_descriptor() {
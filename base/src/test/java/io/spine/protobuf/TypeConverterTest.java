@@ -28,6 +28,7 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.BytesValue;
 import com.google.protobuf.DoubleValue;
 import com.google.protobuf.EnumValue;
+import com.google.protobuf.Field.Kind;
 import com.google.protobuf.FloatValue;
 import com.google.protobuf.Int32Value;
 import com.google.protobuf.Int64Value;
@@ -40,6 +41,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static com.google.protobuf.Field.Kind.TYPE_STRING;
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.protobuf.TypeConverter.toMessage;
 import static io.spine.protobuf.given.TypeConverterTestEnv.TaskStatus.SUCCESS;
@@ -134,6 +136,39 @@ class TypeConverterTest extends UtilityClassTest<TypeConverter> {
             checkMapping(SUCCESS, value);
         }
 
+        @Test
+        @DisplayName("EnumValue to Protobuf enum by number")
+        void map_EnumValue_to_proto_enum_by_number() {
+            Message value = EnumValue.newBuilder()
+                                     .setNumber(TYPE_STRING.getNumber())
+                                     .build();
+            Any packed = AnyPacker.pack(value);
+            Kind mapped = TypeConverter.toObject(packed, Kind.class);
+            assertEquals(TYPE_STRING, mapped);
+        }
+
+        @Test
+        @DisplayName("EnumValue to Protobuf enum by name")
+        void map_EnumValue_to_proto_enum_by_name() {
+            Message value = EnumValue.newBuilder()
+                                     .setName(TYPE_STRING.name())
+                                     .build();
+            Any packed = AnyPacker.pack(value);
+            Kind mapped = TypeConverter.toObject(packed, Kind.class);
+            assertEquals(TYPE_STRING, mapped);
+        }
+
+        @Test
+        @DisplayName("Protobuf enum to EnumValue by name")
+        void map_proto_enum_to_EnumValue() {
+            EnumValue value = toMessage(TYPE_STRING, EnumValue.class);
+            EnumValue expected = EnumValue
+                    .newBuilder()
+                    .setName(TYPE_STRING.name())
+                    .build();
+            assertEquals(expected, value);
+        }
+
         @Test
         @DisplayName("UInt32 to int")
         void map_uint32_to_int() {
@@ -165,6 +200,27 @@ class TypeConverterTest extends UtilityClassTest<TypeConverter> {
         }
     }
 
+    @Nested
+    @DisplayName("pack")
+    class Pack {
+
+        @Test
+        @DisplayName("`int` value the same way as `Int32Value`")
+        void intValue() {
+            for (int value : new int[]{0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+                assertEquals(AnyPacker.pack(Int32Value.of(value)), TypeConverter.toAny(value));
+            }
+        }
+
+        @Test
+        @DisplayName("`long` value the same way as `Int64Value`")
+        void longValue() {
+            for (long value : new long[]{0L, 1L, -1L, 42L, Long.MIN_VALUE, Long.MAX_VALUE}) {
+                assertEquals(AnyPacker.pack(Int64Value.of(value)), TypeConverter.toAny(value));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("convert")
     class Convert {
@@ -90,6 +90,18 @@ class TypesTest extends UtilityClassTest<Types> {
         assertEquals(argument, Message.class);
     }
 
+    @Test
+    @DisplayName("obtain type arguments of different generic supertypes of the same class")
+    void getArgumentsOfDifferentSupertypes() {
+        assertEquals(String.class, argumentIn(IndexedStrings.class, Iterable.class, 0));
+        assertEquals(Integer.class, argumentIn(IndexedStrings.class, Function.class, 0));
+        assertEquals(String.class, argumentIn(IndexedStrings.class, Function.class, 1));
+
+        // Obtain the cached values.
+        assertEquals(String.class, argumentIn(IndexedStrings.class, Iterable.class, 0));
+        assertEquals(Integer.class, argumentIn(IndexedStrings.class, Function.class, 0));
+    }
+
     @Override
     protected void configure(NullPointerTester tester) {
         super.configure(tester);
@@ -102,4 +114,17 @@ class TypesTest extends UtilityClassTest<Types> {
     @SuppressWarnings({"serial", "ClassExtendsConcreteCollection"})
     private static class ListOfMessages extends ArrayList<Message> {
     }
+
+    /**
+     * Stub class with several generic supertypes.
+     */
+    @SuppressWarnings({"serial", "ClassExtendsConcreteCollection"})
+    private static class IndexedStrings extends ArrayList<String>
+            implements Function<Integer, String> {
+
+        @Override
+        public String apply(Integer index) {
+            return get(index);
+        }
+    }
 }
@@ -60,6 +60,14 @@ class InvocationGuardTest extends UtilityClassTest<InvocationGuard> {
                     "org.junit.jupiter.api.Test")
             );
         }
+
+        @Test
+        @DisplayName("if a calling class is not among precompiled allowed")
+        void notAllowedPrecompiled() {
+            AllowedCallers callers = InvocationGuard.allowing("java.lang.String",
+                                                              "org.junit.jupiter.api.Test");
+            assertThrowsOn(callers::check);
+        }
     }
 
     @Test
@@ -75,6 +83,20 @@ class InvocationGuardTest extends UtilityClassTest<InvocationGuard> {
         }
     }
 
+    @Test
+    @DisplayName("do not throw on precompiled allowed class")
+    void passPrecompiled() {
+        String callingClass = CallerProvider.instance()
+                                            .getCallerClass()
+                                            .getName();
+        AllowedCallers callers = InvocationGuard.allowing("java.lang.String", callingClass);
+        try {
+            callers.check();
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
     private static void assertThrowsOn(Executable executable) {
         assertThrows(SecurityException.class, executable);
     }
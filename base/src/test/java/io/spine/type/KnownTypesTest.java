@@ -38,6 +38,7 @@ import io.spine.test.types.KnownTask;
 import io.spine.test.types.KnownTaskId;
 import io.spine.test.types.KnownTaskName;
 import io.spine.type.ref.TypeRef;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,7 @@ import java.util.Set;
 
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.truth.Truth.assertThat;
+import static io.spine.type.KnownTypes.LAZY_LOADING_PROPERTY;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -203,4 +205,76 @@ class KnownTypesTest {
             assertThat(types).containsAtLeastElementsIn(packageTypes);
         }
     }
+
+    @Nested
+    @DisplayName("when loaded lazily, behave as when loaded eagerly in")
+    class LazyLoading {
+
+        private final ImmutableSet<TypeUrl> typeUrls = ImmutableSet.of(
+                TypeUrl.of(Any.class),
+                TypeUrl.of(Timestamp.class),
+                TypeUrl.of(Error.class),
+                TypeUrl.of(KnownTask.class),
+                TypeUrl.from(EntityOption.Kind.getDescriptor())
+        );
+        private final TypeUrl unknownUrl = TypeUrl.parse("prefix/unexpected.type");
+
+        private KnownTypes eager;
+        private KnownTypes lazy;
+
+        @BeforeEach
+        void loadTypes() {
+            eager = load(false);
+            lazy = load(true);
+        }
+
+        private KnownTypes load(boolean lazyLoading) {
+            String previous = System.getProperty(LAZY_LOADING_PROPERTY);
+            System.setProperty(LAZY_LOADING_PROPERTY, String.valueOf(lazyLoading));
+            try {
+                return KnownTypes.Holder.load();
+            } finally {
+                if (previous == null) {
+                    System.clearProperty(LAZY_LOADING_PROPERTY);
+                } else {
+                    System.setProperty(LAZY_LOADING_PROPERTY, previous);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("`contains`")
+        void contains() {
+            for (TypeUrl url : typeUrls) {
+                assertTrue(lazy.contains(url));
+                assertEquals(eager.contains(url), lazy.contains(url));
+            }
+            assertFalse(lazy.contains(unknownUrl));
+            assertEquals(eager.contains(unknownUrl), lazy.contains(unknownUrl));
+        }
+
+        @Test
+        @DisplayName("`find`")
+        void find() {
+            for (TypeUrl url : typeUrls) {
+                TypeName name = url.toTypeName();
+                Optional<TypeUrl> lazyUrl = lazy.find(name)
+                                                .map(Type::url);
+                assertEquals(Optional.of(url), lazyUrl);
+                assertEquals(eager.find(name)
+                                  .map(Type::url), lazyUrl);
+            }
+            assertFalse(lazy.find(unknownUrl.toTypeName())
+                            .isPresent());
+        }
+
+        @Test
+        @DisplayName("`classNameOf`")
+        void classNameOf() {
+            for (TypeUrl url : typeUrls) {
+                assertEquals(eager.classNameOf(url), lazy.classNameOf(url));
+            }
+            assertThrows(UnknownTypeException.class, () -> lazy.classNameOf(unknownUrl));
+        }
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import io.spine.test.validate.MessageWithDistinctMessageField;
+import io.spine.test.validate.MessageWithMapStringField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.protobuf.AnyPacker.unpack;
+
+@DisplayName("DistinctConstraint should")
+class DistinctConstraintTest {
+
+    @Test
+    @DisplayName("find duplicate messages")
+    void findDuplicates() {
+        MessageWithMapStringField element = element("a", "b");
+        MessageWithDistinctMessageField msg = MessageWithDistinctMessageField
+                .newBuilder()
+                .addElement(element)
+                .addElement(element("b", "a"))
+                .addElement(element)
+                .build();
+        List<ConstraintViolation> violations = validate(msg);
+
+        assertThat(violations).hasSize(1);
+        assertThat(unpack(violations.get(0).getFieldValue())).isEqualTo(element);
+    }
+
+    @Test
+    @DisplayName("treat messages with map entries in different order as duplicates")
+    void ignoreMapOrder() {
+        MessageWithMapStringField first = MessageWithMapStringField
+                .newBuilder()
+                .putMapField("1", "one")
+                .putMapField("2", "two")
+                .build();
+        MessageWithMapStringField second = MessageWithMapStringField
+                .newBuilder()
+                .putMapField("2", "two")
+                .putMapField("1", "one")
+                .build();
+        MessageWithDistinctMessageField msg = MessageWithDistinctMessageField
+                .newBuilder()
+                .addElement(first)
+                .addElement(second)
+                .build();
+
+        assertThat(validate(msg)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("accept distinct messages")
+    void acceptDistinct() {
+        MessageWithDistinctMessageField msg = MessageWithDistinctMessageField
+                .newBuilder()
+                .addElement(element("a", "b"))
+                .addElement(element("b", "a"))
+                .build();
+
+        assertThat(validate(msg)).isEmpty();
+    }
+
+    private static MessageWithMapStringField element(String key, String value) {
+        return MessageWithMapStringField
+                .newBuilder()
+                .putMapField(key, value)
+                .build();
+    }
+
+    private static List<ConstraintViolation> validate(MessageWithDistinctMessageField msg) {
+        return MessageValidator.newInstance(msg)
+                               .validate();
+    }
+}
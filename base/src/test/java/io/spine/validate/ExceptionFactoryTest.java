@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Field;
+import com.google.protobuf.Message;
+import com.google.protobuf.Value;
+import io.spine.base.Error;
+import io.spine.test.validate.MessageWithRepeatedValidatedStringField;
+import io.spine.type.MessageClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("ExceptionFactory should")
+class ExceptionFactoryTest {
+
+    private static final int PER_MESSAGE = 10;
+    private static final int VIOLATIONS = 500;
+
+    @AfterEach
+    void resetLimits() {
+        ViolationLimits.reset();
+    }
+
+    @Test
+    @DisplayName("report the number of truncated violations")
+    void reportTruncated() {
+        ViolationLimits.setCurrent(ViolationLimits.of(100, PER_MESSAGE));
+        TestException exception = new TestExceptionFactory(violations(VIOLATIONS)).newException();
+
+        String omitted = ViolationLimits.truncationText(VIOLATIONS - PER_MESSAGE);
+        assertThat(exception.getMessage()).contains(omitted);
+        assertThat(exception.error()
+                            .getMessage()).contains(omitted);
+        assertThat(exception.getMessage()).doesNotContain("Violation #" + PER_MESSAGE + '.');
+        assertThat(exception.error()
+                            .getValidationError()
+                            .getConstraintViolationList()).hasSize(PER_MESSAGE + 1);
+    }
+
+    private static List<ConstraintViolation> violations(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> ConstraintViolation
+                                .newBuilder()
+                                .setMsgFormat("Violation #%s.")
+                                .addParam(String.valueOf(i))
+                                .build())
+                        .collect(toImmutableList());
+    }
+
+    private static final class TestException extends Exception {
+
+        private static final long serialVersionUID = 0L;
+        private final Error error;
+
+        private TestException(String message, Error error) {
+            super(message);
+            this.error = error;
+        }
+
+        private Error error() {
+            return error;
+        }
+    }
+
+    private static final class TestMessageClass extends MessageClass<Message> {
+
+        private static final long serialVersionUID = 0L;
+
+        private TestMessageClass() {
+            super(MessageWithRepeatedValidatedStringField.class);
+        }
+    }
+
+    private static final class TestExceptionFactory
+            extends ExceptionFactory<TestException,
+                                     MessageWithRepeatedValidatedStringField,
+                                     TestMessageClass,
+                                     Field.Kind> {
+
+        private TestExceptionFactory(Iterable<ConstraintViolation> violations) {
+            super(MessageWithRepeatedValidatedStringField.getDefaultInstance(), violations);
+        }
+
+        @Override
+        protected TestMessageClass getMessageClass() {
+            return new TestMessageClass();
+        }
+
+        @Override
+        protected Field.Kind getErrorCode() {
+            return Field.Kind.TYPE_STRING;
+        }
+
+        @Override
+        protected String getErrorText() {
+            return "Invalid message";
+        }
+
+        @Override
+        protected Map<String, Value> getMessageTypeAttribute(Message message) {
+            return ImmutableMap.of();
+        }
+
+        @Override
+        protected TestException createException(String exceptionMsg,
+                                                MessageWithRepeatedValidatedStringField message,
+                                                Error error) {
+            return new TestException(exceptionMsg, error);
+        }
+    }
+}
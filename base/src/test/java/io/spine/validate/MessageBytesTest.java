@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import io.spine.test.validate.MessageWithMapMessageField;
+import io.spine.test.validate.MessageWithMapStringField;
+import io.spine.test.validate.RequiredMsgFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_GROUP;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32;
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("MessageBytes should")
+class MessageBytesTest {
+
+    @Test
+    @DisplayName("obtain the values of a map field as a list")
+    void mapValues() throws InvalidProtocolBufferException {
+        MessageWithMapStringField strings = MessageWithMapStringField
+                .newBuilder()
+                .putMapField("first", "one")
+                .putMapField("second", "two")
+                .build();
+        Any one = pack(StringValue.of("one"));
+        Any two = pack(StringValue.of("two"));
+        MessageWithMapMessageField messages = MessageWithMapMessageField
+                .newBuilder()
+                .putMapField("first", one)
+                .putMapField("second", two)
+                .build();
+
+        assertThat(valueOf(strings, "map_field")).containsExactly("one", "two");
+        assertThat(valueOf(messages, "map_field")).containsExactly(one, two);
+    }
+
+    @Test
+    @DisplayName("merge the occurrences of a singular message field")
+    void mergeMessages() throws InvalidProtocolBufferException {
+        RequiredMsgFieldValue first = RequiredMsgFieldValue
+                .newBuilder()
+                .setValue(StringValue.of("first"))
+                .build();
+        RequiredMsgFieldValue second = RequiredMsgFieldValue
+                .newBuilder()
+                .setValue(StringValue.of("second"))
+                .build();
+        ByteString bytes = first.toByteString()
+                                .concat(second.toByteString());
+        RequiredMsgFieldValue expected = RequiredMsgFieldValue.parseFrom(bytes);
+
+        Object value = read(RequiredMsgFieldValue.getDescriptor(), bytes).valueOf(valueField());
+        assertEquals(expected.getValue(), value);
+    }
+
+    @Test
+    @DisplayName("parse a message field only when its value is obtained")
+    void parseLazily() throws InvalidProtocolBufferException {
+        byte[] malformedValue = {(byte) 0x0A, (byte) 0x02, (byte) 0x0A, (byte) 0x05};
+        MessageBytes message = read(RequiredMsgFieldValue.getDescriptor(),
+                                    ByteString.copyFrom(malformedValue));
+
+        assertThrows(IllegalArgumentException.class, () -> message.valueOf(valueField()));
+    }
+
+    @Test
+    @DisplayName("decode group fields")
+    void decodeGroups() throws DescriptorValidationException, InvalidProtocolBufferException {
+        Descriptor outer = groupDescriptor();
+        FieldDescriptor groupField = outer.findFieldByName("inner");
+        Descriptor inner = groupField.getMessageType();
+        DynamicMessage group = DynamicMessage
+                .newBuilder(inner)
+                .setField(inner.findFieldByName("value"), 42)
+                .build();
+        DynamicMessage message = DynamicMessage
+                .newBuilder(outer)
+                .setField(groupField, group)
+                .build();
+
+        Object value = read(outer, message.toByteString()).valueOf(groupField);
+        assertEquals(group, value);
+    }
+
+    private static Object valueOf(Message message, String fieldName)
+            throws InvalidProtocolBufferException {
+        Descriptor type = message.getDescriptorForType();
+        FieldDescriptor field = type.findFieldByName(fieldName);
+        return read(type, message.toByteString()).valueOf(field);
+    }
+
+    private static MessageBytes read(Descriptor type, ByteString bytes)
+            throws InvalidProtocolBufferException {
+        return MessageBytes.read(type, bytes.newCodedInput());
+    }
+
+    private static FieldDescriptor valueField() {
+        return RequiredMsgFieldValue.getDescriptor()
+                                    .findFieldByName("value");
+    }
+
+    /**
+     * Creates a descriptor of a {@code proto2} message with a group field.
+     *
+     * <p>Groups cannot be declared in {@code proto3}, so the type is defined in code.
+     */
+    private static Descriptor groupDescriptor() throws DescriptorValidationException {
+        DescriptorProto inner = DescriptorProto
+                .newBuilder()
+                .setName("Inner")
+                .addField(FieldDescriptorProto.newBuilder()
+                                              .setName("value")
+                                              .setNumber(2)
+                                              .setLabel(LABEL_OPTIONAL)
+                                              .setType(TYPE_INT32))
+                .build();
+        DescriptorProto outer = DescriptorProto
+                .newBuilder()
+                .setName("Outer")
+                .addNestedType(inner)
+                .addField(FieldDescriptorProto.newBuilder()
+                                              .setName("inner")
+                                              .setNumber(1)
+                                              .setLabel(LABEL_OPTIONAL)
+                                              .setType(TYPE_GROUP)
+                                              .setTypeName("Outer.Inner"))
+                .build();
+        FileDescriptorProto file = FileDescriptorProto
+                .newBuilder()
+                .setName("spine/test/validate/group_test.proto")
+                .setPackage("spine.test.validate.group")
+                .setSyntax("proto2")
+                .addMessageType(outer)
+                .build();
+        return FileDescriptor.buildFrom(file, new FileDescriptor[0])
+                             .findMessageTypeByName("Outer");
+    }
+}
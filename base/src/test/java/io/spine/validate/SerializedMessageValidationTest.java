@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import io.spine.test.validate.InvalidMessage;
+import io.spine.test.validate.MessageWithDistinctMessageField;
+import io.spine.test.validate.MessageWithMapStringField;
+import io.spine.test.validate.MessageWithRepeatedValidatedMessageField;
+import io.spine.test.validate.MessageWithRepeatedValidatedStringField;
+import io.spine.test.validate.RequiredMsgFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("MessageValidator for serialized messages should")
+class SerializedMessageValidationTest {
+
+    @Test
+    @DisplayName("report the same violations as for a parsed message")
+    void sameViolations() throws InvalidProtocolBufferException {
+        InvalidMessage invalid = InvalidMessage
+                .newBuilder()
+                .setInvalidField("not empty")
+                .build();
+        MessageWithMapStringField element = MessageWithMapStringField
+                .newBuilder()
+                .putMapField("key", "value")
+                .build();
+        assertSameViolations(RequiredMsgFieldValue.getDefaultInstance());
+        assertSameViolations(RequiredMsgFieldValue
+                                     .newBuilder()
+                                     .setValue(StringValue.newBuilder()
+                                                          .setValue("value"))
+                                     .build());
+        assertSameViolations(MessageWithRepeatedValidatedStringField
+                                     .newBuilder()
+                                     .addValidated("valid")
+                                     .addValidated("!")
+                                     .build());
+        assertSameViolations(MessageWithRepeatedValidatedMessageField
+                                     .newBuilder()
+                                     .addValidated(invalid)
+                                     .build());
+        assertSameViolations(MessageWithDistinctMessageField
+                                     .newBuilder()
+                                     .addElement(element)
+                                     .addElement(element)
+                                     .build());
+    }
+
+    @Test
+    @DisplayName("read the remaining bytes of a buffer")
+    void readBuffer() throws InvalidProtocolBufferException {
+        MessageWithRepeatedValidatedStringField msg = MessageWithRepeatedValidatedStringField
+                .newBuilder()
+                .addValidated("!")
+                .build();
+        ByteBuffer buffer = msg.toByteString()
+                               .asReadOnlyByteBuffer();
+        List<ConstraintViolation> violations =
+                MessageValidator.newInstance(msg.getDescriptorForType(), buffer)
+                                .validate();
+        assertThat(violations).isEqualTo(validate(msg));
+    }
+
+    @Test
+    @DisplayName("reject malformed bytes")
+    void rejectMalformed() {
+        byte[] malformed = {(byte) 0x0A, (byte) 0x05, (byte) 0x01};
+        assertThrows(InvalidProtocolBufferException.class,
+                     () -> MessageValidator.newInstance(InvalidMessage.getDescriptor(),
+                                                        ByteBuffer.wrap(malformed)));
+    }
+
+    private static void assertSameViolations(Message msg) throws InvalidProtocolBufferException {
+        List<ConstraintViolation> fromBytes =
+                MessageValidator.newInstance(msg.getDescriptorForType(), msg.toByteString())
+                                .validate();
+        assertThat(fromBytes).isEqualTo(validate(msg));
+    }
+
+    private static List<ConstraintViolation> validate(Message msg) {
+        return MessageValidator.newInstance(msg)
+                               .validate();
+    }
+}
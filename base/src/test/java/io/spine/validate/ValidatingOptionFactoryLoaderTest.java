@@ -26,6 +26,10 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.BOOLEAN;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.INT;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.STRING;
 
 @DisplayName("ValidatingOptionsLoader should")
 class ValidatingOptionFactoryLoaderTest {
@@ -39,4 +43,17 @@ class ValidatingOptionFactoryLoaderTest {
         assertThat(implementations).hasSize(1);
         assertThat(implementations.get(0)).isInstanceOf(PrimitiveValidatingOptionFactory.class);
     }
+
+    @Test
+    @DisplayName("group loaded options by field type")
+    void groupByType() {
+        ValidatingOptionsLoader loader = ValidatingOptionsLoader.INSTANCE;
+        assertThat(loader.optionsFor(STRING)).hasSize(1);
+        assertThat(loader.optionsFor(STRING)
+                         .iterator()
+                         .next()).isInstanceOf(Pattern.class);
+        assertThat(loader.optionsFor(INT)).hasSize(4);
+        assertThat(loader.optionsFor(BOOLEAN)).isEmpty();
+        assertThat(loader.optionsFor(MESSAGE)).isEmpty();
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.test.validate.EnclosedMessageFieldValue;
+import io.spine.test.validate.PatternStringFieldValue;
+import io.spine.validate.given.RecordingValidationListener;
+import io.spine.validate.given.RecordingValidationListener.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.validate.given.RecordingValidationListener.constraintChecked;
+import static io.spine.validate.given.RecordingValidationListener.messageValidated;
+
+@DisplayName("Validation should notify the registered ValidationListener")
+class ValidationListenerTest {
+
+    private static final String PATTERN = "pattern";
+    private static final String INVALID_EMAIL = "invalid email";
+
+    private final Descriptor enclosedType = PatternStringFieldValue.getDescriptor();
+    private final FieldDescriptor emailField = enclosedType.findFieldByName("email");
+    private final Descriptor outerType = EnclosedMessageFieldValue.getDescriptor();
+
+    private RecordingValidationListener listener;
+
+    @BeforeEach
+    void installListener() {
+        listener = new RecordingValidationListener();
+        ValidationListeners.INSTANCE.replaceListener(listener);
+    }
+
+    @AfterEach
+    void restoreListener() {
+        ValidationListeners.INSTANCE.restoreListener();
+    }
+
+    @Test
+    @DisplayName("of a valid message")
+    void valid() {
+        PatternStringFieldValue message = PatternStringFieldValue
+                .newBuilder()
+                .setEmail("valid.email@mail.com")
+                .build();
+        MessageValidator.newInstance(message)
+                        .validate();
+
+        assertThat(listener.events())
+                .containsAtLeast(constraintChecked(emailField, PATTERN, 0),
+                                 messageValidated(enclosedType, 0, 0))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("of a violated constraint")
+    void violatedConstraint() {
+        PatternStringFieldValue message = PatternStringFieldValue
+                .newBuilder()
+                .setEmail(INVALID_EMAIL)
+                .build();
+        MessageValidator.newInstance(message)
+                        .validate();
+
+        assertThat(listener.events())
+                .containsAtLeast(constraintChecked(emailField, PATTERN, 1),
+                                 messageValidated(enclosedType, 0, 1))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("of an enclosed message with its nesting depth before the enclosing message")
+    void enclosed() {
+        PatternStringFieldValue enclosed = PatternStringFieldValue
+                .newBuilder()
+                .setEmail(INVALID_EMAIL)
+                .build();
+        EnclosedMessageFieldValue message = EnclosedMessageFieldValue
+                .newBuilder()
+                .setOuterMsgField(enclosed)
+                .build();
+        MessageValidator.newInstance(message)
+                        .validate();
+
+        Event nested = messageValidated(enclosedType, 1, 1);
+        Event outer = messageValidated(outerType, 0, 1);
+        assertThat(listener.events())
+                .containsAtLeast(constraintChecked(emailField, PATTERN, 1), nested, outer)
+                .inOrder();
+        assertThat(listener.events())
+                .doesNotContain(messageValidated(enclosedType, 0, 1));
+    }
+
+    @Test
+    @DisplayName("and find the same violations when there is no listener")
+    void noListener() {
+        PatternStringFieldValue message = PatternStringFieldValue
+                .newBuilder()
+                .setEmail(INVALID_EMAIL)
+                .build();
+        List<ConstraintViolation> notified = MessageValidator.newInstance(message)
+                                                             .validate();
+        ImmutableList<Event> events = listener.events();
+        ValidationListeners.INSTANCE.replaceListener(null);
+        List<ConstraintViolation> notNotified = MessageValidator.newInstance(message)
+                                                                .validate();
+
+        assertThat(notNotified).isEqualTo(notified);
+        assertThat(events).isNotEmpty();
+        assertThat(listener.events()).isEqualTo(events);
+    }
+}
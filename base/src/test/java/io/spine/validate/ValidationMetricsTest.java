@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.test.validate.PatternStringFieldValue;
+import io.spine.test.validate.RequiredStringFieldValue;
+import io.spine.validate.ValidationMetrics.ConstraintStats;
+import io.spine.validate.ValidationMetrics.MessageStats;
+import io.spine.validate.ValidationMetrics.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("ValidationMetrics should")
+class ValidationMetricsTest {
+
+    private static final String PATTERN = "pattern";
+
+    private final Descriptor type = PatternStringFieldValue.getDescriptor();
+    private final FieldDescriptor field = type.getFields()
+                                              .get(0);
+    private ValidationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ValidationMetrics();
+    }
+
+    @Test
+    @DisplayName("aggregate validations of messages")
+    void aggregateMessages() {
+        metrics.onMessageValidated(type, 0, 100, 0);
+        metrics.onMessageValidated(type, 2, 300, 1);
+
+        Snapshot snapshot = metrics.snapshot();
+        MessageStats stats = snapshot.messages()
+                                     .get(type.getFullName());
+        assertEquals(2, stats.validations());
+        assertEquals(1, stats.failures());
+        assertEquals(400, stats.totalNanos());
+        assertEquals(200, stats.meanNanos());
+        assertEquals(300, stats.maxNanos());
+        assertEquals(1, stats.countInBucket(6));
+        assertEquals(1, stats.countInBucket(8));
+        assertEquals(2, snapshot.maxDepth());
+    }
+
+    @Test
+    @DisplayName("aggregate checks of constraints")
+    void aggregateConstraints() {
+        metrics.onConstraintChecked(field, PATTERN, 0);
+        metrics.onConstraintChecked(field, PATTERN, 3);
+
+        Snapshot snapshot = metrics.snapshot();
+        ConstraintStats stats = snapshot.constraints()
+                                        .get(field.getFullName(), PATTERN);
+        assertEquals(2, stats.checks());
+        assertEquals(3, stats.violations());
+        assertThat(snapshot.fieldViolations()).containsExactly(field.getFullName(), 3L);
+    }
+
+    @Test
+    @DisplayName("aggregate checks of the same option separately per field")
+    void constraintsPerField() {
+        FieldDescriptor otherField = RequiredStringFieldValue.getDescriptor()
+                                                             .getFields()
+                                                             .get(0);
+        metrics.onConstraintChecked(field, PATTERN, 1);
+        metrics.onConstraintChecked(otherField, PATTERN, 0);
+
+        Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.constraints()
+                           .column(PATTERN)).hasSize(2);
+        assertEquals(1, snapshot.constraints()
+                                .get(field.getFullName(), PATTERN)
+                                .violations());
+        assertEquals(0, snapshot.constraints()
+                                .get(otherField.getFullName(), PATTERN)
+                                .violations());
+    }
+
+    @Test
+    @DisplayName("collect the metrics of the validation when installed")
+    void installed() {
+        ValidationListeners.INSTANCE.replaceListener(metrics);
+        try {
+            PatternStringFieldValue message = PatternStringFieldValue
+                    .newBuilder()
+                    .setEmail("invalid email")
+                    .build();
+            MessageValidator.newInstance(message)
+                            .validate();
+        } finally {
+            ValidationListeners.INSTANCE.restoreListener();
+        }
+
+        Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.messages()
+                                .get(type.getFullName())
+                                .failures());
+        assertEquals(1, snapshot.constraints()
+                                .get(field.getFullName(), PATTERN)
+                                .violations());
+    }
+
+    @Test
+    @DisplayName("clear the metrics on reset")
+    void reset() {
+        metrics.onMessageValidated(type, 1, 100, 1);
+        metrics.onConstraintChecked(field, PATTERN, 1);
+        metrics.reset();
+
+        Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.messages()).isEmpty();
+        assertThat(snapshot.constraints()).isEmpty();
+        assertThat(snapshot.fieldViolations()).isEmpty();
+        assertEquals(0, snapshot.maxDepth());
+    }
+}
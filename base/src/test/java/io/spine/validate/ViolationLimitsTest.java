@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.FieldPath;
+import io.spine.test.validate.MessageWithRepeatedValidatedStringField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ViolationLimits should")
+class ViolationLimitsTest {
+
+    private static final int INVALID_VALUES = 10;
+
+    @AfterEach
+    void resetLimits() {
+        ViolationLimits.reset();
+    }
+
+    @Test
+    @DisplayName("not accept non-positive limits")
+    void rejectNonPositive() {
+        assertThrows(IllegalArgumentException.class, () -> ViolationLimits.of(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> ViolationLimits.of(1, -1));
+    }
+
+    @Test
+    @DisplayName("truncate violations of a single field")
+    void truncatePerField() {
+        ViolationLimits.setCurrent(ViolationLimits.of(3, 100));
+        List<ConstraintViolation> violations = validate(invalidMessage());
+
+        assertThat(violations).hasSize(4);
+        ConstraintViolation marker = violations.get(3);
+        assertTrue(ViolationLimits.isTruncationMarker(marker));
+        assertThat(marker.getParamList()).containsExactly(String.valueOf(INVALID_VALUES - 3));
+        assertEquals(INVALID_VALUES - 3, marker.getOmittedViolations());
+    }
+
+    @Test
+    @DisplayName("truncate violations of a message")
+    void truncatePerMessage() {
+        ViolationLimits.setCurrent(ViolationLimits.of(100, 4));
+        List<ConstraintViolation> violations = validate(invalidMessage());
+
+        assertThat(violations).hasSize(5);
+        ConstraintViolation marker = violations.get(4);
+        assertTrue(ViolationLimits.isTruncationMarker(marker));
+        assertThat(marker.getParamList()).containsExactly(String.valueOf(INVALID_VALUES - 4));
+        assertEquals(INVALID_VALUES - 4, marker.getOmittedViolations());
+    }
+
+    @Test
+    @DisplayName("not truncate violations within the limits")
+    void notTruncate() {
+        ViolationLimits.setCurrent(ViolationLimits.unlimited());
+        List<ConstraintViolation> violations = validate(invalidMessage());
+
+        assertThat(violations).hasSize(INVALID_VALUES);
+        violations.forEach(violation -> assertFalse(ViolationLimits.isTruncationMarker(violation)));
+    }
+
+    @Test
+    @DisplayName("count a truncation marker as the violations it stands for")
+    void countMarker() {
+        ConstraintViolation marker =
+                ViolationLimits.truncationMarker(5, "test.Type", FieldPath.getDefaultInstance());
+        assertTrue(ViolationLimits.isTruncationMarker(marker));
+        assertEquals(5, ViolationLimits.countOf(marker));
+    }
+
+    @Test
+    @DisplayName("not treat a violation with the marker message format as a marker")
+    void notMistakeForMarker() {
+        ConstraintViolation violation = ViolationLimits
+                .truncationMarker(5, "test.Type", FieldPath.getDefaultInstance())
+                .toBuilder()
+                .clearOmittedViolations()
+                .build();
+        assertFalse(ViolationLimits.isTruncationMarker(violation));
+        assertEquals(1, ViolationLimits.countOf(violation));
+    }
+
+    @Test
+    @DisplayName("keep markers of nested fields while the limit is not reached")
+    void keepNestedMarkers() {
+        ViolationLimits.setCurrent(ViolationLimits.of(3, 10));
+        List<ConstraintViolation> violations = validate(invalidMessage());
+        ViolationCollector collector = ViolationCollector.perMessage();
+        collector.addAll(violations);
+        List<ConstraintViolation> collected =
+                collector.build("test.Type", FieldPath.getDefaultInstance());
+
+        assertThat(collected).isEqualTo(violations);
+    }
+
+    private static List<ConstraintViolation> validate(MessageWithRepeatedValidatedStringField msg) {
+        return MessageValidator.newInstance(msg)
+                               .validate();
+    }
+
+    private static MessageWithRepeatedValidatedStringField invalidMessage() {
+        ImmutableList<String> invalidValues =
+                ImmutableList.copyOf(Collections.nCopies(INVALID_VALUES, "!"));
+        return MessageWithRepeatedValidatedStringField
+                .newBuilder()
+                .addAllValidated(invalidValues)
+                .build();
+    }
+}
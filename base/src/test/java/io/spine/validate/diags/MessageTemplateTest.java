@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate.diags;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.NullPointerTester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.MissingFormatArgumentException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.lang.System.lineSeparator;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("MessageTemplate should")
+class MessageTemplateTest {
+
+    @Test
+    @DisplayName("not accept nulls")
+    void nullTolerance() {
+        new NullPointerTester()
+                .testAllPublicStaticMethods(MessageTemplate.class);
+        new NullPointerTester()
+                .testAllPublicInstanceMethods(MessageTemplate.of("%s"));
+    }
+
+    @Test
+    @DisplayName("substitute parameters")
+    void substitute() {
+        MessageTemplate template = MessageTemplate.of("Number must be greater than %s %s.");
+
+        String message = template.format(ImmutableList.of("or equal to", "42"));
+
+        assertThat(message).isEqualTo("Number must be greater than or equal to 42.");
+    }
+
+    @Test
+    @DisplayName("format a message without parameters")
+    void noParams() {
+        String format = "Value must be set.";
+
+        assertThat(MessageTemplate.of(format)
+                                  .format(ImmutableList.of())).isEqualTo(format);
+    }
+
+    @Test
+    @DisplayName("format the same way as `String.format`")
+    void likeStringFormat() {
+        String format = "%s%%%n%s and %s";
+        ImmutableList<String> params = ImmutableList.of("a", "b", "c", "d");
+
+        String message = MessageTemplate.of(format)
+                                        .format(params);
+
+        assertThat(message).isEqualTo(String.format(format, params.toArray()));
+        assertThat(message).contains(lineSeparator());
+    }
+
+    @Test
+    @DisplayName("support other format specifiers")
+    void otherSpecifiers() {
+        String format = "Expected %5s.";
+        ImmutableList<String> params = ImmutableList.of("a");
+
+        assertThat(MessageTemplate.of(format)
+                                  .format(params)).isEqualTo(String.format(format, "a"));
+    }
+
+    @Test
+    @DisplayName("fail if there are too few parameters")
+    void tooFewParams() {
+        MessageTemplate template = MessageTemplate.of("%s and %s");
+
+        assertThrows(MissingFormatArgumentException.class,
+                     () -> template.format(ImmutableList.of("a")));
+    }
+
+    @Test
+    @DisplayName("reuse compiled templates")
+    void reuse() {
+        String format = "The field '%s' can only be set when the field '%s' is defined.";
+
+        assertSame(MessageTemplate.of(format), MessageTemplate.of(format));
+    }
+}
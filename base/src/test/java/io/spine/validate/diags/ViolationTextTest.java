@@ -28,6 +28,7 @@ import io.spine.base.FieldPath;
 import io.spine.base.FieldPaths;
 import io.spine.type.TypeName;
 import io.spine.validate.ConstraintViolation;
+import io.spine.validate.ViolationLimits;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -83,4 +84,27 @@ class ViolationTextTest {
         assertText.contains(ViolationText.of(first).toString());
         assertText.contains(ViolationText.of(second).toString());
     }
+
+    @Test
+    @DisplayName("format no more violations than the per-message limit")
+    void truncateText() {
+        ConstraintViolation first = ConstraintViolation
+                .newBuilder()
+                .setMsgFormat("The first one")
+                .build();
+        ConstraintViolation second = ConstraintViolation
+                .newBuilder()
+                .setMsgFormat("The second one")
+                .build();
+        ViolationLimits.setCurrent(ViolationLimits.of(1, 1));
+        try {
+            String text = ViolationText.ofAll(ImmutableList.of(first, second));
+            StringSubject assertText = assertThat(text);
+            assertText.contains(ViolationText.of(first).toString());
+            assertText.doesNotContain(ViolationText.of(second).toString());
+            assertText.contains("1 more violation(s) truncated.");
+        } finally {
+            ViolationLimits.reset();
+        }
+    }
 }
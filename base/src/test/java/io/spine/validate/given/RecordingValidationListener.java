@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate.given;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.validate.ValidationListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.synchronizedList;
+
+/**
+ * A {@link ValidationListener} which records the events it is notified of.
+ */
+public final class RecordingValidationListener implements ValidationListener {
+
+    private final List<Event> events = synchronizedList(new ArrayList<>());
+
+    /**
+     * Obtains the recorded events.
+     */
+    public ImmutableList<Event> events() {
+        synchronized (events) {
+            return ImmutableList.copyOf(events);
+        }
+    }
+
+    @Override
+    public void onMessageValidated(Descriptor type,
+                                   int depth,
+                                   long elapsedNanos,
+                                   int violationCount) {
+        events.add(messageValidated(type, depth, violationCount));
+    }
+
+    @Override
+    public void onConstraintChecked(FieldDescriptor field, String option, int violationCount) {
+        events.add(constraintChecked(field, option, violationCount));
+    }
+
+    /**
+     * Creates an event of validation of a message of the given type.
+     */
+    public static Event messageValidated(Descriptor type, int depth, int violationCount) {
+        return new Event(type.getFullName(), "depth " + depth, violationCount);
+    }
+
+    /**
+     * Creates an event of a check of the given option of the given field.
+     */
+    public static Event constraintChecked(FieldDescriptor field,
+                                          String option,
+                                          int violationCount) {
+        return new Event(field.getFullName(), option, violationCount);
+    }
+
+    /**
+     * An event the listener is notified of.
+     */
+    public static final class Event {
+
+        private final String subject;
+        private final String detail;
+        private final int violationCount;
+
+        private Event(String subject, String detail, int violationCount) {
+            this.subject = subject;
+            this.detail = detail;
+            this.violationCount = violationCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Event)) {
+                return false;
+            }
+            Event other = (Event) o;
+            return violationCount == other.violationCount
+                    && subject.equals(other.subject)
+                    && detail.equals(other.detail);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(subject, detail, violationCount);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("subject", subject)
+                              .add("detail", detail)
+                              .add("violationCount", violationCount)
+                              .toString();
+        }
+    }
+}
@@ -52,6 +52,9 @@ class BacktickFormatting extends LineFormatting {
 
     @Override
     String formatLine(String line) {
+        if (!line.contains(BACKTICK)) {
+            return line;
+        }
         // Double the line size to avoid possible memory reallocation.
         StringBuffer buffer = new StringBuffer(line.length() * 2);
 
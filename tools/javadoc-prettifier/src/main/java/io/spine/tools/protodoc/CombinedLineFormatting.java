@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.tools.protodoc;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link LineFormatting}, which performs several line formatting actions
+ * in a single pass over the lines of a text.
+ */
+final class CombinedLineFormatting extends LineFormatting {
+
+    private final ImmutableList<LineFormatting> actions;
+
+    private CombinedLineFormatting(List<LineFormatting> actions) {
+        super();
+        this.actions = ImmutableList.copyOf(actions);
+    }
+
+    /**
+     * Replaces each group of consecutive line formatting actions by a single combined action.
+     *
+     * <p>The order of the actions is preserved.
+     *
+     * @param actions the actions to combine
+     * @return the actions, in which no two line formatting actions follow each other
+     */
+    static ImmutableList<FormattingAction> combine(List<FormattingAction> actions) {
+        ImmutableList.Builder<FormattingAction> result = ImmutableList.builder();
+        List<LineFormatting> group = new ArrayList<>();
+        for (FormattingAction action : actions) {
+            if (action instanceof LineFormatting) {
+                group.add((LineFormatting) action);
+            } else {
+                addGroup(result, group);
+                result.add(action);
+            }
+        }
+        addGroup(result, group);
+        return result.build();
+    }
+
+    private static void addGroup(ImmutableList.Builder<FormattingAction> result,
+                                 List<LineFormatting> group) {
+        if (group.size() == 1) {
+            result.add(group.get(0));
+        } else if (group.size() > 1) {
+            result.add(new CombinedLineFormatting(group));
+        }
+        group.clear();
+    }
+
+    @Override
+    String formatLine(String line) {
+        String currentState = line;
+        for (LineFormatting action : actions) {
+            currentState = action.formatLine(currentState);
+        }
+        return currentState;
+    }
+}
@@ -17,33 +17,46 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-
 package io.spine.tools.protodoc;
 
 import com.google.common.collect.ImmutableList;
 import io.spine.code.fs.java.FileName;
+import io.spine.logging.Logging;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.lang.System.lineSeparator;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.nio.file.Files.newBufferedReader;
 import static java.nio.file.Files.newBufferedWriter;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.joining;
 
 /**
  * A formatter for Javadocs.
  *
  * <p>The formatter executes {@linkplain FormattingAction formatting actions}
  * for the Javadoc lines in a source file.
+ *
+ * <p>The consecutive {@linkplain LineFormatting line formatting actions} are combined, so that
+ * a Javadoc is split into lines only once for all of them.
+ *
+ * <p>The formatter does not hold any state which changes during formatting and can be used
+ * for formatting several files concurrently.
  */
-class JavadocFormatter {
+class JavadocFormatter implements Logging {
 
-    private static final String TEMP_FILE_NAME = "temp_file_for_formatting.java";
+    private static final String JAVADOC_BEGINNING = "/**";
+    private static final String JAVADOC_ENDING = "*/";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     /**
      * The formatting actions to perform.
@@ -51,7 +64,41 @@ class JavadocFormatter {
     private final ImmutableList<FormattingAction> actions;
 
     JavadocFormatter(ImmutableList<FormattingAction> actions) {
-        this.actions = actions;
+        this.actions = CombinedLineFormatting.combine(actions);
+    }
+
+    /**
+     * Formats the Javadocs in all the {@code .java} files in the specified directory
+     * and its subdirectories.
+     *
+     * <p>The files are formatted concurrently.
+     *
+     * @param directory
+     *         the root directory of the sources to format
+     * @throws IOException
+     *         if the directory cannot be walked or one of the files cannot be formatted
+     */
+    void formatAll(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(FileName::isJava)
+                         .collect(toImmutableList());
+        }
+        _debug("Formatting Javadocs in {} files under `{}`.", files.size(), directory);
+        try {
+            files.parallelStream()
+                 .forEach(this::formatUnchecked);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void formatUnchecked(Path path) {
+        try {
+            format(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -59,68 +106,90 @@ class JavadocFormatter {
      *
      * <p>If the file is not a {@code .java} source, does noting.
      *
+     * <p>The file is not rewritten if it has no Javadocs or the formatting does not change it.
+     * Otherwise, the formatted content is written to a temporary file in the same directory,
+     * which then atomically replaces the original file. The line terminators of the file
+     * are preserved.
+     *
      * @param path the path to the file
      */
     void format(Path path) throws IOException {
         if (!FileName.isJava(path)) {
             return;
         }
-
-        Path folder = path.getParent();
-        Path tempPath = folder.resolve(TEMP_FILE_NAME);
-
-        try (BufferedReader reader = newBufferedReader(path, UTF_8);
-             BufferedWriter writer = newBufferedWriter(tempPath, UTF_8)) {
-
-            Optional<String> resultPart = getNextPart(reader);
-            while (resultPart.isPresent()) {
-                writer.write(resultPart.get());
-                writer.newLine();
-                resultPart = getNextPart(reader);
-            }
+        String content = new String(Files.readAllBytes(path), UTF_8);
+        if (!content.contains(JAVADOC_BEGINNING)) {
+            return;
         }
-
-        Files.delete(path);
-        Files.move(tempPath, tempPath.resolveSibling(path));
+        String formatted = formatContent(content);
+        if (formatted.equals(content)) {
+            return;
+        }
+        _debug("Formatting Javadocs in the file: {}", path);
+        replaceContent(path, formatted);
     }
 
     /**
-     * Obtains the next part, that should be written to the resulting file.
+     * Formats the Javadocs in the given content of a file.
      *
-     * <p>If this part is a Javadoc, then the reformatted Javadoc will be returned.
-     *
-     * @param reader the reader for the file
-     * @return the {@code Optional} of the next part
-     *         or {@code Optional.empty()} if if the end of the stream has been reached
-     * @throws IOException if an I/O error occurred during reading
+     * <p>The line terminators of the content are preserved. The lines of a Javadoc are passed
+     * to the formatting actions joined with the {@linkplain System#lineSeparator() system line
+     * separator}. The formatted Javadoc is written with the terminator of its first line.
      */
-    private Optional<String> getNextPart(BufferedReader reader) throws IOException {
-        String firstLine = reader.readLine();
-        if (firstLine == null) {
-            return Optional.empty();
+    private String formatContent(String content) {
+        List<Line> lines = Line.split(content);
+        StringBuilder result = new StringBuilder(content.length());
+        int index = 0;
+        while (index < lines.size()) {
+            Line first = lines.get(index);
+            if (!isJavadocBeginning(first.text)) {
+                result.append(first.text)
+                      .append(first.terminator);
+                index++;
+                continue;
+            }
+            int last = javadocEnd(lines, index);
+            String javadoc = lines.subList(index, last + 1)
+                                  .stream()
+                                  .map(line -> line.text)
+                                  .collect(joining(lineSeparator()));
+            String separator = first.terminator.isEmpty()
+                               ? lineSeparator()
+                               : first.terminator;
+            String formatted = formatText(javadoc).replace(lineSeparator(), separator);
+            result.append(formatted)
+                  .append(lines.get(last).terminator);
+            index = last + 1;
         }
+        return result.toString();
+    }
 
-        if (!isJavadocBeginning(firstLine)) {
-            return Optional.of(firstLine);
+    /**
+     * Obtains the index of the last line of the Javadoc which begins at the given line.
+     *
+     * <p>If the Javadoc is not closed, it lasts till the end of the file.
+     */
+    private static int javadocEnd(List<Line> lines, int javadocStart) {
+        int result = javadocStart;
+        while (!containsJavadocEnding(lines.get(result).text) && result + 1 < lines.size()) {
+            result++;
         }
-
-        String javadoc = getJavadoc(firstLine, reader);
-        String formattedJavadoc = formatText(javadoc);
-        return Optional.of(formattedJavadoc);
+        return result;
     }
 
-    private static String getJavadoc(String firstLine,
-                                     BufferedReader reader) throws IOException {
-        StringBuilder javadoc = new StringBuilder();
-
-        String currentLine = firstLine;
-        while (!containsJavadocEnding(currentLine)) {
-            javadoc.append(currentLine)
-                   .append(lineSeparator());
-            currentLine = reader.readLine();
+    private static void replaceContent(Path path, String content) throws IOException {
+        Path tempPath = Files.createTempFile(path.getParent(),
+                                             path.getFileName()
+                                                 .toString(),
+                                             TEMP_FILE_SUFFIX);
+        try {
+            try (BufferedWriter writer = newBufferedWriter(tempPath, UTF_8)) {
+                writer.write(content);
+            }
+            Files.move(tempPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
         }
-        return javadoc.append(currentLine)
-                      .toString();
     }
 
     /**
@@ -138,11 +207,67 @@ class JavadocFormatter {
     }
 
     private static boolean isJavadocBeginning(String line) {
-        return line.trim()
-                   .contains("/**");
+        return line.contains(JAVADOC_BEGINNING);
     }
 
     private static boolean containsJavadocEnding(String line) {
-        return line.contains("*/");
+        return line.contains(JAVADOC_ENDING);
+    }
+
+    /**
+     * A line of a file along with its terminator.
+     */
+    private static final class Line {
+
+        private static final char CR = '\r';
+        private static final char LF = '\n';
+
+        private final String text;
+
+        /**
+         * The line terminator, which is empty for the last line of a file not ending
+         * with a terminator.
+         */
+        private final String terminator;
+
+        private Line(String text, String terminator) {
+            this.text = text;
+            this.terminator = terminator;
+        }
+
+        /**
+         * Splits the given content into lines.
+         *
+         * <p>The lines are terminated in the same way {@link java.io.BufferedReader#readLine()}
+         * terminates them: by a line feed, a carriage return, or a carriage return followed
+         * by a line feed.
+         */
+        private static List<Line> split(String content) {
+            List<Line> result = new ArrayList<>();
+            int length = content.length();
+            int lineStart = 0;
+            int index = 0;
+            while (index < length) {
+                char c = content.charAt(index);
+                if (c != CR && c != LF) {
+                    index++;
+                    continue;
+                }
+                boolean crlf = c == CR
+                        && index + 1 < length
+                        && content.charAt(index + 1) == LF;
+                int terminatorEnd = crlf
+                                    ? index + 2
+                                    : index + 1;
+                result.add(new Line(content.substring(lineStart, index),
+                                    content.substring(index, terminatorEnd)));
+                lineStart = terminatorEnd;
+                index = terminatorEnd;
+            }
+            if (lineStart < length) {
+                result.add(new Line(content.substring(lineStart), ""));
+            }
+            return result;
+        }
     }
 }
@@ -20,12 +20,11 @@
 
 package io.spine.tools.protodoc;
 
-import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 
+import java.util.Iterator;
 import java.util.List;
 
-import static com.google.common.collect.Lists.newLinkedList;
 import static java.lang.System.lineSeparator;
 
 /**
@@ -45,13 +44,15 @@ abstract class LineFormatting implements FormattingAction {
     public String execute(String text) {
         List<String> textAsLines = Splitter.on(lineSeparator())
                                            .splitToList(text);
-        List<String> formattedLines = newLinkedList();
-        for (String line : textAsLines) {
-            String formattedLine = formatLine(line);
-            formattedLines.add(formattedLine);
+        StringBuilder result = new StringBuilder(text.length());
+        for (Iterator<String> lines = textAsLines.iterator(); lines.hasNext(); ) {
+            String formattedLine = formatLine(lines.next());
+            result.append(formattedLine);
+            if (lines.hasNext()) {
+                result.append(lineSeparator());
+            }
         }
-        return Joiner.on(lineSeparator())
-                     .join(formattedLines);
+        return result.toString();
     }
 
     /**
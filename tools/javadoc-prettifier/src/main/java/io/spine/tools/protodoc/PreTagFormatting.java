@@ -47,7 +47,7 @@ class PreTagFormatting implements FormattingAction {
      */
     @Override
     public String execute(String javadoc) {
-        if (!shouldFormat(javadoc)) {
+        if (!javadoc.contains(OPENING_PRE) || !shouldFormat(javadoc)) {
             return javadoc;
         }
 
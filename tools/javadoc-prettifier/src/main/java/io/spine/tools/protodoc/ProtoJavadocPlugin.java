@@ -27,7 +27,6 @@ import org.gradle.api.Task;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 
 import static io.spine.tools.gradle.TaskName.compileJava;
 import static io.spine.tools.gradle.TaskName.compileTestJava;
@@ -101,7 +100,7 @@ public class ProtoJavadocPlugin extends SpinePlugin {
         );
         try {
             log().debug("Starting Javadocs formatting in `{}`.", genProtoDir);
-            Files.walkFileTree(file.toPath(), new FormattingFileVisitor(formatter));
+            formatter.formatAll(file.toPath());
         } catch (IOException e) {
             String errMsg = format("Failed to format the sources in `%s`.", genProtoDir);
             throw new IllegalStateException(errMsg, e);
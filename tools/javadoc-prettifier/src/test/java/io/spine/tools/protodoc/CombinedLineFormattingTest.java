@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.tools.protodoc;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CombinedLineFormatting should")
+class CombinedLineFormattingTest {
+
+    @Test
+    @DisplayName("combine consecutive line formatting actions")
+    void combineLineActions() {
+        FormattingAction backticks = new BacktickFormatting();
+        FormattingAction upperCase = new UpperCaseFormatting();
+        FormattingAction preTags = new PreTagFormatting();
+        ImmutableList<FormattingAction> combined =
+                CombinedLineFormatting.combine(ImmutableList.of(backticks, upperCase, preTags));
+
+        assertEquals(2, combined.size());
+        assertTrue(combined.get(0) instanceof CombinedLineFormatting);
+        assertSame(preTags, combined.get(1));
+    }
+
+    @Test
+    @DisplayName("not combine a single line formatting action")
+    void keepSingleAction() {
+        FormattingAction backticks = new BacktickFormatting();
+        FormattingAction preTags = new PreTagFormatting();
+        ImmutableList<FormattingAction> actions = ImmutableList.of(preTags, backticks);
+
+        assertEquals(actions, CombinedLineFormatting.combine(actions));
+    }
+
+    @Test
+    @DisplayName("apply the combined actions in order")
+    void applyInOrder() {
+        FormattingAction combined = CombinedLineFormatting
+                .combine(ImmutableList.of(new BacktickFormatting(), new UpperCaseFormatting()))
+                .get(0);
+
+        assertEquals("{@CODE A} B", combined.execute("`a` b"));
+    }
+
+    private static class UpperCaseFormatting extends LineFormatting {
+
+        @Override
+        String formatLine(String line) {
+            return line.toUpperCase();
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 
 import static io.spine.tools.protodoc.BacktickFormatting.wrapWithCodeTag;
@@ -49,6 +50,7 @@ class JavadocFormatterTest {
     private static final String TEXT = "plain text";
     private static final String TEXT_IN_CODE_TAG = wrapWithCodeTag(TEXT);
     private static final String TEXT_IN_BACKTICKS = BACKTICK + TEXT + BACKTICK;
+    private static final String CRLF = "\r\n";
 
     private File folder;
     private final FormattingAction formatting = new BacktickFormatting();
@@ -81,6 +83,74 @@ class JavadocFormatterTest {
         assertEquals(TEXT_IN_BACKTICKS, getFormattingResult(TEXT_IN_BACKTICKS));
     }
 
+    @Test
+    @DisplayName("not rewrite a file which does not change")
+    void notRewriteUnchanged() throws IOException {
+        Path path = createJavaFile();
+        Files.write(path, ImmutableList.of(getJavadoc(TEXT_IN_CODE_TAG)));
+        FileTime modified = FileTime.fromMillis(0L);
+        Files.setLastModifiedTime(path, modified);
+
+        backtickFormatter.format(path);
+
+        assertEquals(modified, Files.getLastModifiedTime(path));
+    }
+
+    @Test
+    @DisplayName("preserve the line terminators of a file")
+    void preserveLineTerminators() throws IOException {
+        Path path = createJavaFile();
+        String content = multilineJavadoc(TEXT_IN_BACKTICKS, CRLF) + "class Test {\r}";
+        Files.write(path, content.getBytes(UTF_8));
+
+        backtickFormatter.format(path);
+
+        String expected = multilineJavadoc(TEXT_IN_CODE_TAG, CRLF) + "class Test {\r}";
+        assertEquals(expected, new String(Files.readAllBytes(path), UTF_8));
+    }
+
+    @Test
+    @DisplayName("not rewrite an unchanged file with non-system line terminators")
+    void notRewriteUnchangedTerminators() throws IOException {
+        Path path = createJavaFile();
+        String separator = lineSeparator().equals(CRLF) ? "\n" : CRLF;
+        String content = multilineJavadoc(TEXT_IN_CODE_TAG, separator) + "class Test {}";
+        Files.write(path, content.getBytes(UTF_8));
+        FileTime modified = FileTime.fromMillis(0L);
+        Files.setLastModifiedTime(path, modified);
+
+        backtickFormatter.format(path);
+
+        assertEquals(modified, Files.getLastModifiedTime(path));
+        assertEquals(content, new String(Files.readAllBytes(path), UTF_8));
+    }
+
+    @Test
+    @DisplayName("format all Java files in a directory")
+    void formatAll() throws IOException {
+        Path root = folder.toPath();
+        List<Path> files = ImmutableList.of(root.resolve("First.java"),
+                                            root.resolve("nested/Second.java"),
+                                            root.resolve("nested/deeper/Third.java"));
+        for (Path file : files) {
+            Files.createDirectories(file.getParent());
+            Files.write(file, ImmutableList.of(getJavadoc(TEXT_IN_BACKTICKS)));
+        }
+
+        backtickFormatter.formatAll(root);
+
+        for (Path file : files) {
+            List<String> lines = Files.readAllLines(file, UTF_8);
+            assertEquals(ImmutableList.of(getJavadoc(TEXT_IN_CODE_TAG)), lines);
+        }
+    }
+
+    private static String multilineJavadoc(String javadocText, String separator) {
+        return "/**" + separator
+                + " * " + javadocText + separator
+                + " */" + separator;
+    }
+
     private static String getJavadoc(String javadocText) {
         return "/** " + javadocText + " */";
     }
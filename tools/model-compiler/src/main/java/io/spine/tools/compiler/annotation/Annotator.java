@@ -25,22 +25,16 @@ import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.fs.java.SourceFile;
 import io.spine.code.java.ClassName;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.impl.AbstractJavaSource;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.AnnotationTargetSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static java.nio.file.Files.exists;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 
 /**
  * Abstract base class for the annotators of the generated Java sources.
@@ -50,7 +44,6 @@ import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
  */
 public abstract class Annotator {
 
-
     private final ImmutableList<FileDescriptor> descriptors;
 
     /**
@@ -63,6 +56,13 @@ public abstract class Annotator {
      */
     private final Path genProtoDir;
 
+    /**
+     * The edits to which the source modifications are scheduled.
+     *
+     * <p>If {@code null}, the sources are rewritten right away.
+     */
+    private @Nullable SourceEdits edits;
+
     protected Annotator(ClassName annotation,
                         ImmutableList<FileDescriptor> descriptors,
                         Path genProtoDir) {
@@ -100,6 +100,10 @@ public abstract class Annotator {
     /**
      * Rewrites a Java source with the specified path after applying a {@link SourceVisitor}.
      *
+     * <p>If this annotator {@linkplain #collectInto(SourceEdits) collects} its edits,
+     * the visitor is scheduled for later and the file is not touched. Otherwise, the source is
+     * rewritten immediately.
+     *
      * <p>If the specified path does not exist, does nothing.
      *
      * @param sourcePathPrefix
@@ -109,34 +113,34 @@ public abstract class Annotator {
      * @param visitor
      *         the source visitor
      */
-    static <T extends JavaSource<T>>
+    protected final <T extends JavaSource<T>>
     void rewriteSource(Path sourcePathPrefix, SourceFile sourceFile, SourceVisitor<T> visitor) {
         Path absoluteSourcePath = sourcePathPrefix.resolve(sourceFile.getPath());
-        if (exists(absoluteSourcePath)) {
-            @SuppressWarnings("unchecked" /* There is no way to specify generic parameter
-                                             for `AbstractJavaSource.class` value. */)
-            AbstractJavaSource<T> javaSource = (AbstractJavaSource<T>) parse(absoluteSourcePath);
-            visitor.accept(javaSource);
-            rewrite(javaSource, absoluteSourcePath);
+        if (edits != null) {
+            edits.add(absoluteSourcePath, visitor);
+        } else {
+            rewriteNow(absoluteSourcePath, visitor);
         }
     }
 
     private static <T extends JavaSource<T>>
-    void rewrite(AbstractJavaSource<T> javaSource, Path destination) {
-        String resultingSource = javaSource.toString();
-        try {
-            Files.write(destination, ImmutableList.of(resultingSource), TRUNCATE_EXISTING);
-        } catch (IOException e) {
-            throw illegalStateWithCauseOf(e);
+    void rewriteNow(Path absoluteSourcePath, SourceVisitor<T> visitor) {
+        if (exists(absoluteSourcePath)) {
+            @SuppressWarnings("unchecked" /* There is no way to specify generic parameter
+                                             for `AbstractJavaSource.class` value. */)
+            AbstractJavaSource<T> javaSource =
+                    (AbstractJavaSource<T>) SourceEdits.parse(absoluteSourcePath);
+            visitor.accept(javaSource);
+            SourceEdits.write(javaSource, absoluteSourcePath);
         }
     }
 
-    private static AbstractJavaSource<?> parse(Path sourcePath) {
-        try {
-            return Roaster.parse(AbstractJavaSource.class, sourcePath.toFile());
-        } catch (FileNotFoundException e) {
-            throw illegalStateWithCauseOf(e);
-        }
+    /**
+     * Makes this annotator schedule its edits to the given {@code SourceEdits} instead
+     * of rewriting the sources one by one.
+     */
+    final void collectInto(SourceEdits edits) {
+        this.edits = checkNotNull(edits);
     }
 
     /**
@@ -22,6 +22,7 @@ package io.spine.tools.compiler.annotation;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.code.fs.Fingerprints;
 import io.spine.code.java.ClassName;
 import io.spine.logging.Logging;
 import org.checkerframework.checker.regex.qual.Regex;
@@ -47,9 +48,35 @@ public final class ModuleAnnotator {
 
     /**
      * Executes the {@linkplain Job annotation jobs}.
+     *
+     * <p>The jobs do not modify the sources directly. Instead, the edits of all the jobs are
+     * collected first and then applied so that each generated file is parsed and written
+     * only once. The files are processed in parallel.
      */
     public void annotate() {
-        jobs.forEach(job -> job.execute(annotatorFactory));
+        execute(new SourceEdits());
+    }
+
+    /**
+     * Executes the {@linkplain Job annotation jobs} skipping the sources which did not change
+     * since they were annotated by the previous run.
+     *
+     * <p>The fingerprints of the annotated sources are updated, but not
+     * {@linkplain Fingerprints#save() saved}.
+     *
+     * @param fingerprints
+     *         the fingerprints of the sources annotated by the previous run
+     * @see #annotate()
+     */
+    public void annotate(Fingerprints fingerprints) {
+        checkNotNull(fingerprints);
+        execute(new SourceEdits(fingerprints));
+    }
+
+    private void execute(SourceEdits edits) {
+        AnnotatorFactory factory = new CollectingFactory(annotatorFactory, edits);
+        jobs.forEach(job -> job.execute(factory));
+        edits.apply();
     }
 
     /**
@@ -161,6 +188,58 @@ public final class ModuleAnnotator {
         }
     }
 
+    /**
+     * An {@link AnnotatorFactory} which makes the created annotators
+     * {@linkplain Annotator#collectInto(SourceEdits) collect} their edits instead of rewriting
+     * the sources right away.
+     */
+    private static final class CollectingFactory implements AnnotatorFactory {
+
+        private final AnnotatorFactory delegate;
+        private final SourceEdits edits;
+
+        private CollectingFactory(AnnotatorFactory delegate, SourceEdits edits) {
+            this.delegate = delegate;
+            this.edits = edits;
+        }
+
+        private Annotator collecting(Annotator annotator) {
+            annotator.collectInto(edits);
+            return annotator;
+        }
+
+        @Override
+        public Annotator createFileAnnotator(ClassName annotation, ApiOption option) {
+            return collecting(delegate.createFileAnnotator(annotation, option));
+        }
+
+        @Override
+        public Annotator createMessageAnnotator(ClassName annotation, ApiOption option) {
+            return collecting(delegate.createMessageAnnotator(annotation, option));
+        }
+
+        @Override
+        public Annotator createFieldAnnotator(ClassName annotation, ApiOption option) {
+            return collecting(delegate.createFieldAnnotator(annotation, option));
+        }
+
+        @Override
+        public Annotator createServiceAnnotator(ClassName annotation, ApiOption option) {
+            return collecting(delegate.createServiceAnnotator(annotation, option));
+        }
+
+        @Override
+        public Annotator createPatternAnnotator(ClassName annotation, ClassNamePattern pattern) {
+            return collecting(delegate.createPatternAnnotator(annotation, pattern));
+        }
+
+        @Override
+        public Annotator createMethodAnnotator(ClassName annotation,
+                                               ImmutableSet<MethodPattern> patterns) {
+            return collecting(delegate.createMethodAnnotator(annotation, patterns));
+        }
+    }
+
     /**
      * A builder of {@link Job} instances.
      *
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.annotation;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.code.fs.Fingerprints;
+import io.spine.logging.Logging;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.impl.AbstractJavaSource;
+import org.jboss.forge.roaster.model.source.JavaSource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.exists;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Pending modifications of the generated Java sources.
+ *
+ * <p>{@linkplain Annotator Annotators} which {@linkplain Annotator#collectInto(SourceEdits)
+ * collect} their edits here do not touch the file system. Instead, all the
+ * {@linkplain SourceVisitor visitors} targeting the same file are grouped together. When
+ * the edits are {@linkplain #apply() applied}, each file is parsed, visited and written exactly
+ * once, no matter how many annotators have modified it.
+ *
+ * <p>Files are processed in parallel. The visitors of a single file are applied sequentially,
+ * in the order they were added.
+ *
+ * <p>If {@link Fingerprints} are given, a file is skipped if its content is the same as it was
+ * right after the previous run, i.e. the file is already annotated. The fingerprints of all the
+ * edited files are updated.
+ */
+final class SourceEdits implements Logging {
+
+    private final Map<Path, List<SourceVisitor<?>>> edits = new LinkedHashMap<>();
+    private final @Nullable Fingerprints fingerprints;
+
+    /**
+     * Creates edits which are applied to all the files unconditionally.
+     */
+    SourceEdits() {
+        this(null);
+    }
+
+    /**
+     * Creates edits which skip the files already edited by a previous run.
+     *
+     * @param fingerprints
+     *         the fingerprints of the files written by the previous run, or {@code null}
+     *         to apply the edits unconditionally
+     */
+    SourceEdits(@Nullable Fingerprints fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Schedules the given visitor to be applied to the source file with the given path.
+     *
+     * @param sourcePath
+     *         the absolute path to a Java source file
+     * @param visitor
+     *         the source visitor
+     */
+    synchronized void add(Path sourcePath, SourceVisitor<?> visitor) {
+        checkNotNull(sourcePath);
+        checkNotNull(visitor);
+        Path key = sourcePath.toAbsolutePath()
+                             .normalize();
+        edits.computeIfAbsent(key, path -> new ArrayList<>())
+             .add(visitor);
+    }
+
+    /**
+     * Obtains the number of files with pending edits.
+     */
+    synchronized int fileCount() {
+        return edits.size();
+    }
+
+    /**
+     * Applies all the collected edits and clears this instance.
+     *
+     * <p>Files which do not exist are skipped.
+     *
+     * @throws IllegalStateException
+     *         if any of the files cannot be read, parsed or written
+     */
+    void apply() {
+        ImmutableList<Map.Entry<Path, List<SourceVisitor<?>>>> files;
+        synchronized (this) {
+            files = ImmutableList.copyOf(edits.entrySet());
+            edits.clear();
+        }
+        if (files.isEmpty()) {
+            return;
+        }
+        Stopwatch total = Stopwatch.createStarted();
+        int threads = max(1, min(files.size(), Runtime.getRuntime()
+                                                      .availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>(files.size());
+            for (Map.Entry<Path, List<SourceVisitor<?>>> file : files) {
+                tasks.add(executor.submit(() -> rewrite(file.getKey(), file.getValue())));
+            }
+            for (Future<?> task : tasks) {
+                await(task);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        _debug("Annotated {} source files using {} threads in {} ms.",
+               files.size(), threads, total.elapsed(MILLISECONDS));
+    }
+
+    private static void await(Future<?> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        } catch (ExecutionException e) {
+            throw illegalStateWithCauseOf(e.getCause());
+        }
+    }
+
+    @SuppressWarnings({
+            "unchecked", "rawtypes" /* There is no way to specify generic parameter
+                                       for `AbstractJavaSource.class` value. */
+    })
+    private void rewrite(Path sourcePath, List<SourceVisitor<?>> visitors) {
+        if (!exists(sourcePath)) {
+            return;
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        String key = sourcePath.toString();
+        String source = read(sourcePath);
+        if (fingerprints != null) {
+            String fingerprint = Fingerprints.of(source.getBytes(UTF_8));
+            if (fingerprints.isUpToDate(key, fingerprint)) {
+                fingerprints.update(key, fingerprint);
+                _debug("`{}` is up to date.", sourcePath);
+                return;
+            }
+        }
+        AbstractJavaSource javaSource = Roaster.parse(AbstractJavaSource.class, source);
+        for (SourceVisitor visitor : visitors) {
+            visitor.accept(javaSource);
+        }
+        byte[] result = write(javaSource, sourcePath);
+        if (fingerprints != null) {
+            fingerprints.update(key, Fingerprints.of(result));
+        }
+        _debug("Applied {} edit(s) to `{}` in {} ms.",
+               visitors.size(), sourcePath, stopwatch.elapsed(MILLISECONDS));
+    }
+
+    private static String read(Path sourcePath) {
+        try {
+            return new String(Files.readAllBytes(sourcePath), UTF_8);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Parses the Java source file with the given path.
+     */
+    static AbstractJavaSource<?> parse(Path sourcePath) {
+        try {
+            return Roaster.parse(AbstractJavaSource.class, sourcePath.toFile());
+        } catch (FileNotFoundException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Writes the given Java source to the file with the given path.
+     *
+     * @return the written bytes
+     */
+    @CanIgnoreReturnValue
+    static <T extends JavaSource<T>>
+    byte[] write(AbstractJavaSource<T> javaSource, Path destination) {
+        String resultingSource = javaSource.toString() + lineSeparator();
+        byte[] bytes = resultingSource.getBytes(UTF_8);
+        try {
+            Files.write(destination, bytes, TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        return bytes;
+    }
+}
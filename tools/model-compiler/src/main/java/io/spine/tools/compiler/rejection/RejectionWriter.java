@@ -19,6 +19,7 @@
  */
 package io.spine.tools.compiler.rejection;
 
+import com.google.common.base.Splitter;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
@@ -27,6 +28,7 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeSpec;
 import io.spine.base.ThrowableMessage;
+import io.spine.code.fs.java.FileName;
 import io.spine.code.gen.Indent;
 import io.spine.code.gen.java.FieldName;
 import io.spine.code.gen.java.NestedClassName;
@@ -39,6 +41,7 @@ import io.spine.type.RejectionType;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static io.spine.tools.compiler.annotation.Annotations.generatedBySpineModelCompiler;
@@ -52,6 +55,7 @@ import static javax.lang.model.element.Modifier.STATIC;
  */
 public class RejectionWriter implements Logging {
 
+    private static final Splitter PACKAGE_SPLITTER = Splitter.on(PackageName.delimiterChar());
     private static final NoArgMethod messageThrown = new NoArgMethod("messageThrown");
 
     private final RejectionType declaration;
@@ -80,6 +84,23 @@ public class RejectionWriter implements Logging {
         this.indent = indent;
     }
 
+    /**
+     * Obtains the file to which the rejection is {@linkplain #write() written}.
+     */
+    public File file() {
+        Path dir = outputDirectory.toPath();
+        String javaPackage = declaration.javaPackage()
+                                        .value();
+        for (String packageDir : PACKAGE_SPLITTER.split(javaPackage)) {
+            dir = dir.resolve(packageDir);
+        }
+        String className = declaration.simpleJavaClassName()
+                                      .value();
+        return dir.resolve(FileName.forType(className)
+                                   .value())
+                  .toFile();
+    }
+
     /**
      * Initiates writing.
      */
@@ -40,6 +40,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -47,6 +48,7 @@ import static io.spine.tools.compiler.annotation.Annotations.generatedBySpineMod
 import static io.spine.tools.compiler.validation.VBuilderMethods.methodsOf;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PUBLIC;
 
@@ -56,6 +58,7 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 final class VBuilderCode implements Logging {
 
     private static final Splitter DOT_SPLITTER = Splitter.on('.');
+
     private final File targetDir;
     private final Indent indent;
     private final MessageType type;
@@ -81,14 +84,35 @@ final class VBuilderCode implements Logging {
      */
     @CanIgnoreReturnValue
     File write() {
+        writeIfChanged();
+        return file();
+    }
+
+    /**
+     * Writes the generated validating builder to Java file unless the file already has
+     * exactly the same content.
+     *
+     * <p>Leaving an unchanged file intact preserves its modification time, so that the tools
+     * relying on it, such as the Java compiler, have less work to do.
+     *
+     * @return {@code true} if the file was written, {@code false} if it was up to date
+     */
+    boolean writeIfChanged() {
         _debug("Creating spec. for class: {}", vbClass);
 
         TypeSpec javaClassSpec = defineClass()
                 .addAnnotation(generatedBySpineModelCompiler())
                 .build();
 
-        File created = writeClass(javaPackage, javaClassSpec);
-        return created;
+        boolean written = writeClass(javaPackage, javaClassSpec);
+        return written;
+    }
+
+    /**
+     * Obtains the file with the generated validating builder.
+     */
+    File file() {
+        return resolve(javaPackage, vbClass.value());
     }
 
     private TypeSpec.Builder defineClass() {
@@ -116,22 +140,25 @@ final class VBuilderCode implements Logging {
                                                          .value());
     }
 
-    @CanIgnoreReturnValue
-    private File writeClass(String javaPackage, TypeSpec classToCreate) {
+    private boolean writeClass(String javaPackage, TypeSpec classToCreate) {
         _debug("Writing the {} class", vbClass);
+        File file = resolve(javaPackage, classToCreate.name);
         try {
-            Path dir = targetDir.toPath();
-            Files.createDirectories(dir);
-            JavaFile.builder(javaPackage, classToCreate)
-                    .skipJavaLangImports(true)
-                    .indent(indent.toString())
-                    .build()
-                    .writeTo(targetDir);
-
-            File createdFile = resolve(javaPackage, classToCreate.name);
-            _debug("The {} class created, written to file {}.", vbClass, createdFile);
-            return createdFile;
-
+            String code = JavaFile.builder(javaPackage, classToCreate)
+                                  .skipJavaLangImports(true)
+                                  .indent(indent.toString())
+                                  .build()
+                                  .toString();
+            byte[] content = code.getBytes(UTF_8);
+            Path path = file.toPath();
+            if (Files.exists(path) && Arrays.equals(content, Files.readAllBytes(path))) {
+                _debug("The {} class is up to date in file {}.", vbClass, file);
+                return false;
+            }
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+            _debug("The {} class created, written to file {}.", vbClass, file);
+            return true;
         } catch (IOException e) {
             String exMessage = format("%s was not written.", targetDir);
             _warn(exMessage, e);
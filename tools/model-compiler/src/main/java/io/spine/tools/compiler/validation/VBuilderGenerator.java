@@ -20,8 +20,11 @@
 
 package io.spine.tools.compiler.validation;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.gen.Indent;
 import io.spine.code.proto.FileSet;
 import io.spine.code.proto.ProtoBelongsToModule;
@@ -32,10 +35,24 @@ import io.spine.type.MessageType;
 import org.slf4j.Logger;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Predicates.not;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Gradle {@code Action} for validating builder generation.
@@ -53,8 +70,11 @@ public final class VBuilderGenerator implements Logging {
     /** Indentation for the generated code. */
     private final Indent indent;
 
+    /** The maximum number of the validating builders generated at the same time. */
+    private final int parallelism;
+
     /**
-     * Creates new instance of the generator.
+     * Creates new instance of the generator which uses all the available processors.
      *
      * @param protoSrcDir
      *         the directory with proto source files
@@ -64,9 +84,29 @@ public final class VBuilderGenerator implements Logging {
      *         the indentation for generated code
      */
     public VBuilderGenerator(File protoSrcDir, File targetDir, Indent indent) {
+        this(protoSrcDir, targetDir, indent, Runtime.getRuntime()
+                                                    .availableProcessors());
+    }
+
+    /**
+     * Creates new instance of the generator.
+     *
+     * @param protoSrcDir
+     *         the directory with proto source files
+     * @param targetDir
+     *         an absolute path to the folder, serving as a target for the code generation
+     * @param indent
+     *         the indentation for generated code
+     * @param parallelism
+     *         the maximum number of the validating builders generated at the same time;
+     *         {@code 1} turns the parallel generation off
+     */
+    public VBuilderGenerator(File protoSrcDir, File targetDir, Indent indent, int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s.", parallelism);
         this.protoSrcDir = protoSrcDir;
         this.targetDir = targetDir;
         this.indent = indent;
+        this.parallelism = parallelism;
         _debug("Initiating generation of validating builders. " +
                        "Proto src dir: {} Target dir: {}", protoSrcDir, targetDir);
     }
@@ -83,22 +123,83 @@ public final class VBuilderGenerator implements Logging {
         generate(customTypes);
     }
 
+    /**
+     * Obtains the files of the validating builders generated for the types from the given file.
+     */
+    public ImmutableSet<Path> outputsOf(FileDescriptor file) {
+        ProtoBelongsToModule predicate = new SourceProtoBelongsToModule(protoSrcDir);
+        if (!predicate.forDescriptor()
+                      .test(file)) {
+            return ImmutableSet.of();
+        }
+        @SuppressWarnings("Guava") // it's more neat Guava way here.
+        ImmutableSet<Path> result =
+                TypeSet.onlyMessages(file)
+                       .stream()
+                       .filter(MessageType::isCustom)
+                       .filter(not(MessageType::isRejection))
+                       .map(type -> new VBuilderCode(targetDir, indent, type).file()
+                                                                            .toPath())
+                       .collect(toImmutableSet());
+        return result;
+    }
+
     private FileSet moduleFiles(FileSet allFiles) {
         ProtoBelongsToModule predicate = new SourceProtoBelongsToModule(protoSrcDir);
         return allFiles.filter(predicate.forDescriptor());
     }
 
     private void generate(ImmutableCollection<MessageType> messages) {
-        _debug("Generating validating builders for {} types.", messages.size());
-        for (MessageType messageType : messages) {
-            try {
-                VBuilderCode code = new VBuilderCode(targetDir, indent, messageType);
-                code.write();
-            } catch (RuntimeException e) {
-                logError(messageType, e);
+        int total = messages.size();
+        _debug("Generating validating builders for {} types.", total);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Progress progress = new Progress(total);
+        if (parallelism == 1 || total <= 1) {
+            messages.forEach(type -> generate(type, progress));
+        } else {
+            generateInParallel(messages, progress);
+        }
+        _info("Validating builder generation is finished in {} ms. {}",
+              stopwatch.elapsed(MILLISECONDS), progress);
+    }
+
+    private void generateInParallel(ImmutableCollection<MessageType> messages, Progress progress) {
+        int threads = min(parallelism, messages.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>(messages.size());
+            for (MessageType type : messages) {
+                tasks.add(executor.submit(() -> generate(type, progress)));
             }
+            for (Future<?> task : tasks) {
+                await(task);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(Future<?> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        } catch (ExecutionException e) {
+            throw illegalStateWithCauseOf(e.getCause());
+        }
+    }
+
+    private void generate(MessageType messageType, Progress progress) {
+        try {
+            VBuilderCode code = new VBuilderCode(targetDir, indent, messageType);
+            boolean written = code.writeIfChanged();
+            progress.done(written);
+        } catch (RuntimeException e) {
+            progress.failed();
+            logError(messageType, e);
         }
-        _debug("Validating builder generation is finished.");
     }
 
     private void logError(MessageType type, RuntimeException e) {
@@ -113,4 +214,51 @@ public final class VBuilderGenerator implements Logging {
             log.warn(message);
         }
     }
+
+    /**
+     * Counts the processed types and periodically reports the progress of generation.
+     */
+    private final class Progress {
+
+        /** The number of progress reports during the generation. */
+        private static final int REPORTS = 10;
+
+        private final int total;
+        private final int step;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger written = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private Progress(int total) {
+            this.total = total;
+            this.step = max(1, total / REPORTS);
+        }
+
+        private void done(boolean fileWritten) {
+            if (fileWritten) {
+                written.incrementAndGet();
+            }
+            report(processed.incrementAndGet());
+        }
+
+        private void failed() {
+            failed.incrementAndGet();
+            report(processed.incrementAndGet());
+        }
+
+        private void report(int count) {
+            if (count % step == 0 || count == total) {
+                _debug("Generated validating builders: {} of {}.", count, total);
+            }
+        }
+
+        @Override
+        public String toString() {
+            int writtenCount = written.get();
+            int failedCount = failed.get();
+            int unchanged = processed.get() - writtenCount - failedCount;
+            return format("Types: %d, files written: %d, unchanged: %d, failed: %d.",
+                          total, writtenCount, unchanged, failedCount);
+        }
+    }
 }
@@ -72,11 +72,11 @@ public class DescriptorSetMergerPlugin extends SpinePlugin {
             Configuration configuration = configuration(project, configurationName(tests));
             File descriptorSet = descriptorSet(project, tests);
             FileDescriptorSuperset superset = new FileDescriptorSuperset();
-            configuration.forEach(superset::addFromDependency);
+            superset.addFromDependencies(configuration);
             if (descriptorSet.exists()) {
                 superset.addFromDependency(descriptorSet);
             }
-            superset.merge()
+            superset.mergeWithoutSourceInfo()
                     .loadIntoKnownTypes();
         };
     }
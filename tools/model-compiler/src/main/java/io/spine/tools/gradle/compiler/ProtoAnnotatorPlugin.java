@@ -21,18 +21,24 @@
 package io.spine.tools.gradle.compiler;
 
 import com.google.common.collect.ImmutableSet;
+import io.spine.code.fs.Fingerprints;
 import io.spine.code.java.ClassName;
 import io.spine.tools.compiler.annotation.AnnotatorFactory;
 import io.spine.tools.compiler.annotation.DefaultAnnotatorFactory;
 import io.spine.tools.compiler.annotation.ModuleAnnotator;
+import io.spine.tools.gradle.GradleTask;
+import io.spine.tools.gradle.ProtoChanges;
 import io.spine.tools.gradle.SpinePlugin;
+import io.spine.tools.gradle.TaskName;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
+import org.gradle.api.file.FileCollection;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.Callable;
 
 import static io.spine.tools.compiler.annotation.ApiOption.beta;
 import static io.spine.tools.compiler.annotation.ApiOption.experimental;
@@ -184,6 +190,12 @@ import static io.spine.tools.gradle.compiler.Extension.getTestGenProtoDir;
  */
 public class ProtoAnnotatorPlugin extends SpinePlugin {
 
+    /**
+     * The reason why the output of the annotation tasks is not cached.
+     */
+    private static final String NOT_CACHEABLE =
+            "The sources generated by `protoc` are annotated in place.";
+
     @Override
     public void apply(Project project) {
         createMainTask(project);
@@ -192,18 +204,56 @@ public class ProtoAnnotatorPlugin extends SpinePlugin {
 
     private void createMainTask(Project project) {
         Action<Task> task = new Annotate(true);
-        newTask(annotateProto, task)
+        ProtoModule module = new ProtoModule(project);
+        GradleTask annotate = newTask(annotateProto, task)
                 .insertBeforeTask(compileJava)
                 .insertAfterTask(mergeDescriptorSet)
+                .withInputFiles(module.descriptorSet())
+                .withInputFiles(module.generatedProto())
+                .withOutputFiles(fingerprintsOf(project, annotateProto))
                 .applyNowTo(project);
+        disableCaching(annotate);
     }
 
     private void createTestTask(Project project) {
         Action<Task> testTask = new Annotate(false);
-        newTask(annotateTestProto, testTask)
+        ProtoModule module = new ProtoModule(project);
+        GradleTask annotate = newTask(annotateTestProto, testTask)
                 .insertBeforeTask(compileTestJava)
                 .insertAfterTask(mergeTestDescriptorSet)
+                .withInputFiles(module.testDescriptorSet())
+                .withInputFiles(module.testGeneratedProto())
+                .withOutputFiles(fingerprintsOf(project, annotateTestProto))
                 .applyNowTo(project);
+        disableCaching(annotate);
+    }
+
+    /**
+     * Obtains the file with the fingerprints of the sources annotated by the given task.
+     *
+     * <p>The sources annotated by a task are also produced by the {@code protoc} tasks. Thus,
+     * the sources are the inputs of the annotation task, and the fingerprints file is its
+     * dedicated output.
+     */
+    private static FileCollection fingerprintsOf(Project project, TaskName taskName) {
+        return project.files((Callable<File>) () -> {
+            Task task = project.getTasks()
+                               .getByName(taskName.value());
+            return ProtoChanges.fingerprintsFile(task)
+                               .toFile();
+        });
+    }
+
+    /**
+     * Prevents the output of the given task from being taken from the build cache.
+     *
+     * <p>The build cache cannot restore the annotated sources, since they are
+     * the output of another task.
+     */
+    private static void disableCaching(GradleTask task) {
+        task.getTask()
+            .getOutputs()
+            .doNotCacheIf(NOT_CACHEABLE, spec -> true);
     }
 
     /**
@@ -224,11 +274,15 @@ public class ProtoAnnotatorPlugin extends SpinePlugin {
             String generatedProtoDir = generatedProtoDir(project);
             String generatedGrpcDir = generatedGrpcDir(project);
             if (descriptorSetFile.exists()) {
+                Path fingerprintsFile = ProtoChanges.fingerprintsFile(task);
+                Fingerprints fingerprints = Fingerprints.load(fingerprintsFile,
+                                                              configuration(project));
                 ModuleAnnotator moduleAnnotator = createAnnotator(project,
                                                                   descriptorSetFile,
                                                                   generatedProtoDir,
                                                                   generatedGrpcDir);
-                moduleAnnotator.annotate();
+                moduleAnnotator.annotate(fingerprints);
+                fingerprints.save();
             } else {
                 logMissingDescriptorSetFile(descriptorSetFile);
             }
@@ -259,6 +313,22 @@ public class ProtoAnnotatorPlugin extends SpinePlugin {
                     .build();
         }
 
+        /**
+         * Obtains the textual representation of the annotation settings of the project.
+         *
+         * <p>Once the settings change, all the sources are annotated anew.
+         */
+        private String configuration(Project project) {
+            CodeGenAnnotations annotations = getCodeGenAnnotations(project);
+            return String.join(";",
+                               annotations.spiClassName().value(),
+                               annotations.betaClassName().value(),
+                               annotations.experimentalClassName().value(),
+                               annotations.internalClassName().value(),
+                               getInternalClassPatterns(project).toString(),
+                               getInternalMethodNames(project).toString());
+        }
+
         private File descriptorSet(Project project) {
             return productionTask
                    ? getMainDescriptorSet(project)
@@ -27,15 +27,23 @@ import org.gradle.api.internal.file.collections.ImmutableFileCollection;
 import org.gradle.api.plugins.JavaPluginConvention;
 import org.gradle.api.tasks.SourceSet;
 
+import java.io.File;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.tools.gradle.SourceScope.main;
 import static io.spine.tools.gradle.SourceScope.test;
+import static io.spine.tools.gradle.compiler.Extension.getMainDescriptorSet;
+import static io.spine.tools.gradle.compiler.Extension.getMainGenGrpcDir;
+import static io.spine.tools.gradle.compiler.Extension.getMainGenProtoDir;
 import static io.spine.tools.gradle.compiler.Extension.getTargetGenRejectionsRootDir;
 import static io.spine.tools.gradle.compiler.Extension.getTargetGenValidatorsRootDir;
 import static io.spine.tools.gradle.compiler.Extension.getTargetTestGenRejectionsRootDir;
 import static io.spine.tools.gradle.compiler.Extension.getTargetTestGenValidatorsRootDir;
+import static io.spine.tools.gradle.compiler.Extension.getTestDescriptorSet;
+import static io.spine.tools.gradle.compiler.Extension.getTestGenGrpcDir;
+import static io.spine.tools.gradle.compiler.Extension.getTestGenProtoDir;
 
 /**
  * A source code module with Protobuf.
@@ -102,6 +110,48 @@ final class ProtoModule {
         }
     }
 
+    /**
+     * Obtains a {@linkplain FileCollection collection of files} containing the descriptor set file
+     * of the production Protobuf types known to this module.
+     *
+     * <p>The file path is resolved lazily, when the collection is queried.
+     */
+    FileCollection descriptorSet() {
+        return project.files((Callable<File>) () -> getMainDescriptorSet(project));
+    }
+
+    /**
+     * Obtains a {@linkplain FileCollection collection of files} containing the descriptor set file
+     * of the test Protobuf types known to this module.
+     *
+     * <p>The file path is resolved lazily, when the collection is queried.
+     */
+    FileCollection testDescriptorSet() {
+        return project.files((Callable<File>) () -> getTestDescriptorSet(project));
+    }
+
+    /**
+     * Obtains a {@linkplain FileCollection collection of files} containing the Java sources
+     * generated by {@code protoc} in this module, including the gRPC services.
+     *
+     * <p>The directory paths are resolved lazily, when the collection is queried.
+     */
+    FileCollection generatedProto() {
+        return project.files((Callable<String>) () -> getMainGenProtoDir(project),
+                             (Callable<String>) () -> getMainGenGrpcDir(project));
+    }
+
+    /**
+     * Obtains a {@linkplain FileCollection collection of files} containing the test Java sources
+     * generated by {@code protoc} in this module, including the gRPC services.
+     *
+     * <p>The directory paths are resolved lazily, when the collection is queried.
+     */
+    FileCollection testGeneratedProto() {
+        return project.files((Callable<String>) () -> getTestGenProtoDir(project),
+                             (Callable<String>) () -> getTestGenGrpcDir(project));
+    }
+
     private SourceSet sourceSet(SourceScope sourceScope) {
         JavaPluginConvention javaConvention = project.getConvention()
                                                      .getPlugin(JavaPluginConvention.class);
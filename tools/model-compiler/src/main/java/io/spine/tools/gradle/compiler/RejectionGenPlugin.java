@@ -20,15 +20,18 @@
 package io.spine.tools.gradle.compiler;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.gen.Indent;
 import io.spine.code.java.PackageName;
 import io.spine.code.java.SimpleClassName;
 import io.spine.code.proto.FileSet;
 import io.spine.code.proto.RejectionsFile;
+import io.spine.code.proto.SourceFile;
 import io.spine.code.proto.SourceProtoBelongsToModule;
 import io.spine.tools.compiler.rejection.RejectionWriter;
 import io.spine.tools.gradle.CodeGenerationAction;
 import io.spine.tools.gradle.GradleTask;
+import io.spine.tools.gradle.ProtoChanges;
 import io.spine.tools.gradle.ProtoPlugin;
 import io.spine.type.RejectionType;
 import org.gradle.api.Action;
@@ -37,6 +40,7 @@ import org.gradle.api.Task;
 import org.slf4j.Logger;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -87,6 +91,7 @@ public class RejectionGenPlugin extends ProtoPlugin {
                         .insertAfterTask(mergeDescriptorSet)
                         .insertBeforeTask(compileJava)
                         .withInputFiles(module.protoSource())
+                        .withInputFiles(module.descriptorSet())
                         .withOutputFiles(module.compiledRejections())
                         .applyNowTo(project);
         Action<Task> testScopeAction =
@@ -101,6 +106,7 @@ public class RejectionGenPlugin extends ProtoPlugin {
                         .insertBeforeTask(compileTestJava)
                         .withInputFiles(module.protoSource())
                         .withInputFiles(module.testProtoSource())
+                        .withInputFiles(module.testDescriptorSet())
                         .withOutputFiles(module.compiledRejections())
                         .withOutputFiles(module.testCompiledRejections())
                         .applyNowTo(project);
@@ -139,12 +145,35 @@ public class RejectionGenPlugin extends ProtoPlugin {
 
         @Override
         public void execute(Task task) {
-            ImmutableSet<RejectionsFile> rejectionFiles = findModuleRejections(protoFiles().get());
+            ProtoChanges changes = changedFiles(task);
+            ImmutableSet<RejectionsFile> rejectionFiles = findModuleRejections(changes.files());
             _debug("Processing the file descriptors for the rejections {}", rejectionFiles);
             for (RejectionsFile source : rejectionFiles) {
                 // We are sure that this is a rejections file because we got them filtered.
                 generateRejections(source);
             }
+            changes.commit(this::outputsOf);
+        }
+
+        /**
+         * Obtains the files of the rejections generated from the given file.
+         */
+        private ImmutableSet<Path> outputsOf(FileDescriptor file) {
+            SourceFile sourceFile = SourceFile.from(file);
+            boolean moduleRejections = sourceFile.isRejections()
+                    && new SourceProtoBelongsToModule(protoSrcDir()).test(sourceFile);
+            if (!moduleRejections) {
+                return ImmutableSet.of();
+            }
+            ImmutableSet<Path> result = RejectionsFile
+                    .from(sourceFile)
+                    .rejectionDeclarations()
+                    .stream()
+                    .map(rejection -> new RejectionWriter(rejection, targetDir(), indent())
+                            .file()
+                            .toPath())
+                    .collect(toImmutableSet());
+            return result;
         }
 
         /**
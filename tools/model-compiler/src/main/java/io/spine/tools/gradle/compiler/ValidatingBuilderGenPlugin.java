@@ -25,6 +25,7 @@ import io.spine.code.proto.FileSet;
 import io.spine.tools.compiler.validation.VBuilderGenerator;
 import io.spine.tools.gradle.CodeGenerationAction;
 import io.spine.tools.gradle.GradleTask;
+import io.spine.tools.gradle.ProtoChanges;
 import io.spine.tools.gradle.ProtoPlugin;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
@@ -93,6 +94,7 @@ public class ValidatingBuilderGenPlugin extends ProtoPlugin {
                         .insertAfterTask(mergeDescriptorSet)
                         .insertBeforeTask(compileJava)
                         .withInputFiles(module.protoSource())
+                        .withInputFiles(module.descriptorSet())
                         .withOutputFiles(module.validatingBuilders())
                         .applyNowTo(project);
         _debug("Preparing to generate test validating builders.");
@@ -108,6 +110,7 @@ public class ValidatingBuilderGenPlugin extends ProtoPlugin {
                         .insertBeforeTask(compileTestJava)
                         .withInputFiles(module.protoSource())
                         .withInputFiles(module.testProtoSource())
+                        .withInputFiles(module.testDescriptorSet())
                         .withOutputFiles(module.validatingBuilders())
                         .withOutputFiles(module.testValidatingBuilders())
                         .applyNowTo(project);
@@ -153,9 +156,11 @@ public class ValidatingBuilderGenPlugin extends ProtoPlugin {
             if (!isGenerateValidatingBuilders(project())) {
                 return;
             }
+            ProtoChanges changes = changedFiles(task);
             VBuilderGenerator generator =
                     new VBuilderGenerator(protoSrcDir(), targetDir(), indent());
-            generator.process(protoFiles().get());
+            generator.process(changes.files());
+            changes.commit(generator::outputsOf);
         }
 
         @Override
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.annotation;
+
+import com.google.common.collect.ImmutableList;
+import org.jboss.forge.roaster.model.impl.AbstractJavaSource;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static com.google.common.collect.Sets.newIdentityHashSet;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("SourceEdits should")
+class SourceEditsTest {
+
+    private Path sourceFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        sourceFile = tempDir.resolve("Foo.java");
+        Files.write(sourceFile, ImmutableList.of("package test;", "public class Foo {}"), UTF_8);
+    }
+
+    @Test
+    @DisplayName("parse a file once for all the edits")
+    void parseOnce() throws IOException {
+        Set<AbstractJavaSource<?>> visitedSources = newIdentityHashSet();
+        SourceVisitor<JavaClassSource> deprecate = source -> {
+            visitedSources.add(source);
+            source.addAnnotation(Deprecated.class);
+        };
+        SourceVisitor<JavaClassSource> markFunctional = source -> {
+            visitedSources.add(source);
+            source.addAnnotation(FunctionalInterface.class);
+        };
+        SourceEdits edits = new SourceEdits();
+        edits.add(sourceFile, deprecate);
+        edits.add(sourceFile, markFunctional);
+        assertEquals(1, edits.fileCount());
+
+        edits.apply();
+
+        assertEquals(1, visitedSources.size());
+        String result = new String(Files.readAllBytes(sourceFile), UTF_8);
+        assertTrue(result.contains("@Deprecated"));
+        assertTrue(result.contains("@FunctionalInterface"));
+        assertEquals(0, edits.fileCount());
+    }
+
+    @Test
+    @DisplayName("skip missing files")
+    void skipMissing() {
+        Path missingFile = sourceFile.resolveSibling("Missing.java");
+        SourceVisitor<JavaClassSource> failing = source -> {
+            throw new AssertionError("Missing file must not be visited.");
+        };
+        SourceEdits edits = new SourceEdits();
+        edits.add(missingFile, failing);
+
+        edits.apply();
+
+        assertFalse(Files.exists(missingFile));
+    }
+}
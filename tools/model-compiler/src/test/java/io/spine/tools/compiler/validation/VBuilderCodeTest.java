@@ -44,6 +44,7 @@ import java.nio.file.Path;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.type.MessageType.VBUILDER_SUFFIX;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(TempDirectory.class)
@@ -73,6 +74,16 @@ class VBuilderCodeTest {
         return file;
     }
 
+    @Test
+    @DisplayName("not rewrite a file with the same content")
+    void skipUnchanged() {
+        MessageType type = new MessageType(VbtProject.getDescriptor());
+        boolean firstWritten = new VBuilderCode(targetDir, Indent.of4(), type).writeIfChanged();
+        boolean secondWritten = new VBuilderCode(targetDir, Indent.of4(), type).writeIfChanged();
+        assertTrue(firstWritten);
+        assertFalse(secondWritten);
+    }
+
     @Nested
     @DisplayName("generate code for")
     class Generate {
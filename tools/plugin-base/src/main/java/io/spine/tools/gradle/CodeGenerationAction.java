@@ -122,6 +122,44 @@ public abstract class CodeGenerationAction implements Action<Task>, Logging {
         return protoFiles;
     }
 
+    /**
+     * Obtains the Protobuf files changed since the previous execution of the given task.
+     *
+     * <p>If the {@linkplain #targetDir() target directory} does not exist, all the files
+     * are considered changed.
+     *
+     * <p>Once the changed files are processed, the returned changes should be
+     * {@linkplain ProtoChanges#commit(java.util.function.Function) committed}.
+     *
+     * @param task
+     *         the task executing this action
+     */
+    protected final ProtoChanges changedFiles(Task task) {
+        FileSet files = protoFiles.get();
+        String configuration = configuration();
+        return targetDir().exists()
+               ? ProtoChanges.of(task, files, configuration)
+               : ProtoChanges.all(task, files, configuration);
+    }
+
+    /**
+     * Obtains the textual representation of the settings which affect the generated code.
+     *
+     * <p>The version of the code generator is a part of the settings, so that a new version
+     * of the generator re-generates all the code.
+     */
+    private String configuration() {
+        Class<?> generator = getClass();
+        String version = String.valueOf(generator.getPackage()
+                                                 .getImplementationVersion());
+        return String.join(";",
+                           generator.getName(),
+                           version,
+                           protoSrcDir().getAbsolutePath(),
+                           targetDir().getAbsolutePath(),
+                           String.valueOf(indent().getSize()));
+    }
+
     /**
      * Obtains directory with source proto files.
      */
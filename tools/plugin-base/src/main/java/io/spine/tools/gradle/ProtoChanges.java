@@ -0,0 +1,307 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle;
+
+import com.google.common.base.Splitter;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.code.fs.Fingerprints;
+import io.spine.code.proto.FileSet;
+import io.spine.logging.Logging;
+import org.gradle.api.Task;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The Protobuf files which changed since the previous execution of a Gradle task.
+ *
+ * <p>A file is considered changed if the content of its descriptor or the descriptors of any of
+ * its dependencies has changed. A changed configuration of the task makes all the files changed.
+ * A file is also considered changed if any of the outputs recorded for it is missing or its
+ * content differs from the content recorded after the generation, e.g. if the generated file
+ * is deleted or edited by hand.
+ *
+ * <p>Once the task has processed the {@linkplain #files() changed files}, it should
+ * {@linkplain #commit(Function) commit} the changes, so that the next execution of the task skips
+ * the files which did not change since.
+ *
+ * <p>Along with the fingerprints, the outputs generated for each file are recorded. The outputs
+ * recorded by the previous execution which are no longer produced, e.g. because the file they
+ * were generated from is deleted, are deleted on commit.
+ */
+public final class ProtoChanges implements Logging {
+
+    private static final String FINGERPRINTS_DIR = "spine/fingerprints";
+
+    /**
+     * The prefix of the keys under which the outputs of the files are recorded.
+     */
+    private static final String OUTPUTS_PREFIX = "outputs:";
+
+    /**
+     * The prefix of the keys under which the content fingerprints of the outputs are recorded.
+     */
+    private static final String CONTENT_PREFIX = "content:";
+
+    private static final Splitter PATH_SPLITTER = Splitter.on(File.pathSeparatorChar)
+                                                         .omitEmptyStrings();
+
+    private final Fingerprints fingerprints;
+    private final FileSet allFiles;
+    private final FileSet changedFiles;
+
+    /**
+     * The content fingerprints of the outputs of the unchanged files, by the output paths.
+     */
+    private final Map<Path, String> unchangedOutputs;
+
+    private ProtoChanges(Fingerprints fingerprints,
+                         FileSet allFiles,
+                         FileSet changedFiles,
+                         Map<Path, String> unchangedOutputs) {
+        this.fingerprints = fingerprints;
+        this.allFiles = allFiles;
+        this.changedFiles = changedFiles;
+        this.unchangedOutputs = unchangedOutputs;
+    }
+
+    /**
+     * Finds the files changed since the previous execution of the given task.
+     *
+     * @param task
+     *         the task processing the files
+     * @param files
+     *         all the files to be processed by the task
+     * @param configuration
+     *         the textual representation of the task configuration which affects the results
+     *         of processing
+     */
+    public static ProtoChanges of(Task task, FileSet files, String configuration) {
+        checkNotNull(task);
+        checkNotNull(files);
+        checkNotNull(configuration);
+        Fingerprints fingerprints = Fingerprints.load(fingerprintsFile(task), configuration);
+        return compare(task, files, fingerprints);
+    }
+
+    /**
+     * Considers all the given files changed regardless of the previous executions of the task.
+     *
+     * <p>Use this method when the results of the previous executions are gone.
+     *
+     * @see #of(Task, FileSet, String)
+     */
+    public static ProtoChanges all(Task task, FileSet files, String configuration) {
+        checkNotNull(task);
+        checkNotNull(files);
+        checkNotNull(configuration);
+        Fingerprints fingerprints = Fingerprints.discard(fingerprintsFile(task), configuration);
+        return compare(task, files, fingerprints);
+    }
+
+    /**
+     * Obtains the file storing the {@linkplain Fingerprints fingerprints} of the given task.
+     *
+     * <p>The tasks which track the changes of their sources by other means than
+     * the Protobuf descriptors should also store their fingerprints in this file.
+     */
+    public static Path fingerprintsFile(Task task) {
+        checkNotNull(task);
+        return task.getProject()
+                   .getBuildDir()
+                   .toPath()
+                   .resolve(FINGERPRINTS_DIR)
+                   .resolve(task.getName() + ".properties");
+    }
+
+    private static ProtoChanges compare(Task task, FileSet files, Fingerprints fingerprints) {
+        Map<FileDescriptor, String> known = new HashMap<>();
+        Set<FileDescriptor> changed = new HashSet<>();
+        Map<Path, String> unchangedOutputs = new HashMap<>();
+        for (FileDescriptor file : files.files()) {
+            String key = file.getFullName();
+            String fingerprint = fingerprint(file, known);
+            fingerprints.update(key, fingerprint);
+            boolean upToDate = fingerprints.isUpToDate(key, fingerprint)
+                    && outputsUpToDate(file, fingerprints, unchangedOutputs);
+            if (!upToDate) {
+                changed.add(file);
+            }
+        }
+        FileSet changedFiles = files.filter(changed::contains);
+        ProtoChanges result =
+                new ProtoChanges(fingerprints, files, changedFiles, unchangedOutputs);
+        result._debug("Task `{}`: {} of {} Protobuf files changed.",
+                      task.getName(), changedFiles.size(), files.size());
+        return result;
+    }
+
+    /**
+     * Checks that all the outputs recorded for the given file exist and have the recorded content.
+     *
+     * <p>The content fingerprints of the checked outputs are put into the given map.
+     */
+    private static boolean outputsUpToDate(FileDescriptor file,
+                                           Fingerprints fingerprints,
+                                           Map<Path, String> checkedOutputs) {
+        Optional<String> recorded = fingerprints.previous(OUTPUTS_PREFIX + file.getFullName());
+        if (!recorded.isPresent()) {
+            return false;
+        }
+        Map<Path, String> outputs = new HashMap<>();
+        for (String output : PATH_SPLITTER.split(recorded.get())) {
+            Path path = Paths.get(output);
+            Optional<String> content = contentOf(path);
+            if (!content.isPresent()
+                    || !fingerprints.isUpToDate(CONTENT_PREFIX + output, content.get())) {
+                return false;
+            }
+            outputs.put(path, content.get());
+        }
+        checkedOutputs.putAll(outputs);
+        return true;
+    }
+
+    /**
+     * Obtains the fingerprint of the content of the given output.
+     *
+     * @return the fingerprint or {@code Optional.empty()} if the output cannot be read
+     */
+    private static Optional<String> contentOf(Path output) {
+        if (!Files.isRegularFile(output)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Fingerprints.of(Files.readAllBytes(output)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the given file which also covers all its dependencies.
+     */
+    private static String fingerprint(FileDescriptor file, Map<FileDescriptor, String> known) {
+        String cached = known.get(file);
+        if (cached != null) {
+            return cached;
+        }
+        Hasher hasher = Hashing.sha256()
+                               .newHasher()
+                               .putBytes(file.toProto()
+                                             .toByteArray());
+        for (FileDescriptor dependency : file.getDependencies()) {
+            hasher.putUnencodedChars(fingerprint(dependency, known));
+        }
+        String result = hasher.hash()
+                              .toString();
+        known.put(file, result);
+        return result;
+    }
+
+    /**
+     * Obtains the files changed since the previous execution of the task.
+     */
+    public FileSet files() {
+        return changedFiles;
+    }
+
+    /**
+     * Records the current state of the files, so that the next execution of the task
+     * considers them unchanged.
+     *
+     * <p>The outputs recorded by the previous execution of the task, which are not among
+     * the outputs of the current files, are deleted.
+     *
+     * <p>Along with the outputs, the fingerprints of their content are recorded. Only
+     * the existing outputs are recorded.
+     *
+     * @param outputs
+     *         the function obtaining the outputs generated by the task for a file; the function
+     *         is applied to all the files, not only to the changed ones
+     */
+    public void commit(Function<FileDescriptor, ? extends Collection<Path>> outputs) {
+        checkNotNull(outputs);
+        Set<Path> current = new HashSet<>();
+        for (FileDescriptor file : allFiles.files()) {
+            Collection<Path> fileOutputs = outputs.apply(file);
+            current.addAll(fileOutputs);
+            List<String> recorded = new ArrayList<>(fileOutputs.size());
+            for (Path output : fileOutputs) {
+                String content = unchangedOutputs.get(output);
+                Optional<String> fingerprint = content != null
+                                               ? Optional.of(content)
+                                               : contentOf(output);
+                if (fingerprint.isPresent()) {
+                    String path = output.toString();
+                    recorded.add(path);
+                    fingerprints.update(CONTENT_PREFIX + path, fingerprint.get());
+                }
+            }
+            fingerprints.update(OUTPUTS_PREFIX + file.getFullName(),
+                                String.join(File.pathSeparator, recorded));
+        }
+        deleteStaleOutputs(current);
+        fingerprints.save();
+    }
+
+    private void deleteStaleOutputs(Set<Path> current) {
+        for (String key : fingerprints.previousKeys()) {
+            if (!key.startsWith(OUTPUTS_PREFIX)) {
+                continue;
+            }
+            String recorded = fingerprints.previous(key)
+                                          .orElse("");
+            for (String output : PATH_SPLITTER.split(recorded)) {
+                Path path = Paths.get(output);
+                if (!current.contains(path)) {
+                    delete(path);
+                }
+            }
+        }
+    }
+
+    private void delete(Path output) {
+        try {
+            if (Files.deleteIfExists(output)) {
+                _debug("Deleted the stale output `{}`.", output);
+            }
+        } catch (IOException e) {
+            _warn("Unable to delete the stale output `{}`: {}", output, e);
+        }
+    }
+}
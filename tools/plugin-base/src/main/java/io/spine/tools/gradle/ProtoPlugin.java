@@ -85,7 +85,7 @@ public abstract class ProtoPlugin extends SpinePlugin {
                                                 Configuration configuration) {
         return () -> {
             FileDescriptorSuperset superset = new FileDescriptorSuperset();
-            configuration.forEach(superset::addFromDependency);
+            superset.addFromDependencies(configuration);
             File suppliedDescriptorSet = descriptorSet.get();
             if (suppliedDescriptorSet.exists()) {
                 superset.addFromDependency(suppliedDescriptorSet);
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DurationProto;
+import com.google.protobuf.EmptyProto;
+import com.google.protobuf.TimestampProto;
+import io.spine.code.proto.FileSet;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("ProtoChanges should")
+class ProtoChangesTest {
+
+    private static final String CONFIGURATION = "config";
+
+    private Path outputDir;
+    private Task task;
+
+    @BeforeEach
+    void setUp(@TempDir Path dir) {
+        Project project = ProjectBuilder
+                .builder()
+                .withProjectDir(dir.toFile())
+                .build();
+        task = project.task("generateCode");
+        outputDir = dir.resolve("generated");
+    }
+
+    @Test
+    @DisplayName("consider all files changed on the first run")
+    void allChangedFirst() {
+        FileSet files = fileSet(timestamp(), duration());
+        ProtoChanges changes = ProtoChanges.of(task, files, CONFIGURATION);
+        assertThat(changes.files()
+                          .size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("consider the committed files unchanged")
+    void committedUnchanged() {
+        FileSet files = fileSet(timestamp(), duration());
+        commit(ProtoChanges.of(task, files, CONFIGURATION));
+
+        ProtoChanges changes = ProtoChanges.of(task, files, CONFIGURATION);
+        assertThat(changes.files()
+                          .size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("detect a changed file")
+    void detectChanged() {
+        commit(ProtoChanges.of(task, fileSet(timestamp(), duration()), CONFIGURATION));
+        FileDescriptorProto changedTimestamp = timestamp()
+                .toBuilder()
+                .setPackage("changed.protobuf")
+                .build();
+
+        ProtoChanges changes =
+                ProtoChanges.of(task, fileSet(changedTimestamp, duration()), CONFIGURATION);
+        assertThat(fileNames(changes)).containsExactly(changedTimestamp.getName());
+    }
+
+    @Test
+    @DisplayName("consider all files changed under another configuration")
+    void allChangedOnNewConfiguration() {
+        FileSet files = fileSet(timestamp(), duration());
+        commit(ProtoChanges.of(task, files, CONFIGURATION));
+
+        ProtoChanges changes = ProtoChanges.of(task, files, CONFIGURATION + "-changed");
+        assertThat(changes.files()
+                          .size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("delete the outputs of the removed files")
+    void deleteRemovedOutputs() throws IOException {
+        generate(ProtoChanges.of(task, fileSet(timestamp(), duration()), CONFIGURATION));
+        Path timestampOutput = outputOf(timestamp().getName());
+        Path durationOutput = outputOf(duration().getName());
+
+        commit(ProtoChanges.of(task, fileSet(timestamp(), empty()), CONFIGURATION));
+
+        assertTrue(Files.exists(timestampOutput));
+        assertFalse(Files.exists(durationOutput));
+    }
+
+    @Test
+    @DisplayName("regenerate a deleted output")
+    void regenerateDeleted() throws IOException {
+        FileSet files = fileSet(timestamp(), duration());
+        generate(ProtoChanges.of(task, files, CONFIGURATION));
+        Path timestampOutput = outputOf(timestamp().getName());
+        Files.delete(timestampOutput);
+
+        ProtoChanges changes = ProtoChanges.of(task, files, CONFIGURATION);
+        assertThat(fileNames(changes)).containsExactly(timestamp().getName());
+
+        generate(changes);
+        assertTrue(Files.exists(timestampOutput));
+        assertThat(ProtoChanges.of(task, files, CONFIGURATION)
+                               .files()
+                               .size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("detect an edited output")
+    void detectEdited() throws IOException {
+        FileSet files = fileSet(timestamp(), duration());
+        generate(ProtoChanges.of(task, files, CONFIGURATION));
+        Files.write(outputOf(duration().getName()), "edited".getBytes(UTF_8));
+
+        ProtoChanges changes = ProtoChanges.of(task, files, CONFIGURATION);
+        assertThat(fileNames(changes)).containsExactly(duration().getName());
+    }
+
+    /**
+     * Writes the outputs of the changed files and commits the changes.
+     */
+    private void generate(ProtoChanges changes) throws IOException {
+        Files.createDirectories(outputDir);
+        for (FileDescriptor file : changes.files()
+                                          .files()) {
+            Files.write(outputOf(file.getName()), file.getName()
+                                                      .getBytes(UTF_8));
+        }
+        commit(changes);
+    }
+
+    private void commit(ProtoChanges changes) {
+        changes.commit(this::outputsOf);
+    }
+
+    private Collection<Path> outputsOf(FileDescriptor file) {
+        return ImmutableSet.of(outputOf(file.getName()));
+    }
+
+    private Path outputOf(String protoFileName) {
+        return outputDir.resolve(protoFileName.replace('/', '_') + ".java");
+    }
+
+    private static ImmutableSet<String> fileNames(ProtoChanges changes) {
+        return changes.files()
+                      .files()
+                      .stream()
+                      .map(FileDescriptor::getName)
+                      .collect(toImmutableSet());
+    }
+
+    private static FileSet fileSet(FileDescriptorProto... files) {
+        return FileSet.ofFiles(ImmutableSet.copyOf(files));
+    }
+
+    private static FileDescriptorProto timestamp() {
+        return TimestampProto.getDescriptor()
+                             .toProto();
+    }
+
+    private static FileDescriptorProto duration() {
+        return DurationProto.getDescriptor()
+                            .toProto();
+    }
+
+    private static FileDescriptorProto empty() {
+        return EmptyProto.getDescriptor()
+                         .toProto();
+    }
+}
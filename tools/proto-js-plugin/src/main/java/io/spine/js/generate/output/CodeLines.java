@@ -25,10 +25,13 @@ import io.spine.code.gen.Indent;
 import io.spine.code.gen.IndentLevel;
 import io.spine.js.generate.Snippet;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -43,7 +46,8 @@ import static java.lang.System.lineSeparator;
  * adding the code.
  *
  * <p>The writable representation of the output may be obtained through the {@link #toString()}
- * method.
+ * method. To write the code without accumulating it in a single {@code String}, use
+ * {@link #writeTo(Writer)}.
  */
 @SuppressWarnings("DuplicateStringLiteralInspection" /* The generated code duplicates the code
                                                         used in test that checks it. */)
@@ -307,6 +311,45 @@ public final class CodeLines {
         return result;
     }
 
+    /**
+     * Writes the code lines one by one to the given writer.
+     *
+     * <p>Each line is indented and followed by the line separator.
+     *
+     * <p>The lines are accumulated by this instance before they are written. Unlike
+     * {@link #toString()}, this method does not join them into a single {@code String}.
+     *
+     * @param out
+     *         the writer to write the code to
+     * @throws IOException
+     *         if the writer fails
+     */
+    public void writeTo(Writer out) throws IOException {
+        writeTo(out, UnaryOperator.identity());
+    }
+
+    /**
+     * Writes the code lines one by one to the given writer processing each of them
+     * before writing.
+     *
+     * @param out
+     *         the writer to write the code to
+     * @param processLine
+     *         the function applied to each indented line before it is written
+     * @throws IOException
+     *         if the writer fails
+     * @see #writeTo(Writer)
+     */
+    public void writeTo(Writer out, UnaryOperator<String> processLine) throws IOException {
+        checkNotNull(out);
+        checkNotNull(processLine);
+        for (IndentedLine line : codeLines) {
+            String processed = processLine.apply(line.content());
+            out.write(processed);
+            out.write(LINE_SEPARATOR);
+        }
+    }
+
     @VisibleForTesting
     int currentDepth() {
         return currentLevel.value();
@@ -22,15 +22,16 @@ package io.spine.js.generate.output;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
-import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.fs.js.Directory;
 import io.spine.code.fs.js.FileName;
 import io.spine.code.fs.js.LibraryFile;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.function.UnaryOperator;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.nio.file.StandardOpenOption.APPEND;
@@ -40,6 +41,9 @@ import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 /**
  * A writer of JavaScript code into a file.
  *
+ * <p>The generated code is accumulated in {@link CodeLines} and then written to the file
+ * line by line, so the lines are never joined into a single {@code String}.
+ *
  * <p>The class wraps all {@link IOException}s which occur during its operations in the
  * {@link IllegalStateException}.
  */
@@ -50,14 +54,20 @@ public final class FileWriter {
      */
     private final Path path;
 
-    private FileWriter(Path path) {
+    /**
+     * The function resolving the imports in the written lines.
+     */
+    private final UnaryOperator<String> resolveImports;
+
+    private FileWriter(Path path, UnaryOperator<String> resolveImports) {
         this.path = path;
+        this.resolveImports = resolveImports;
     }
 
     @VisibleForTesting
     static FileWriter createFor(Directory directory, FileName fileName) {
         Path filePath = directory.resolve(fileName);
-        return new FileWriter(filePath);
+        return new FileWriter(filePath, UnaryOperator.identity());
     }
 
     /**
@@ -77,6 +87,18 @@ public final class FileWriter {
         return createFor(directory, fileName);
     }
 
+    /**
+     * Creates a writer to the same file, which resolves imports in the code while writing it.
+     *
+     * @param resolveImports
+     *         the function processing a code line, which resolves an import if the line has one
+     * @return a new writer
+     */
+    public FileWriter resolvingImports(UnaryOperator<String> resolveImports) {
+        checkNotNull(resolveImports);
+        return new FileWriter(path, resolveImports);
+    }
+
     /**
      * Writes the given output to the file.
      *
@@ -89,11 +111,9 @@ public final class FileWriter {
      */
     public void write(CodeLines jsOutput) {
         checkNotNull(jsOutput);
-        try {
-            Files.write(path,
-                        ImmutableList.of(jsOutput.toString()),
-                        Charsets.UTF_8,
-                        CREATE, TRUNCATE_EXISTING);
+        try (Writer out = Files.newBufferedWriter(path, Charsets.UTF_8,
+                                                  CREATE, TRUNCATE_EXISTING)) {
+            jsOutput.writeTo(out, resolveImports);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
@@ -109,9 +129,8 @@ public final class FileWriter {
      */
     public void append(CodeLines jsOutput) {
         checkNotNull(jsOutput);
-        try {
-            ImmutableList<String> linesToAppend = ImmutableList.of(jsOutput.toString());
-            Files.write(path, linesToAppend, Charsets.UTF_8, APPEND);
+        try (Writer out = Files.newBufferedWriter(path, Charsets.UTF_8, APPEND)) {
+            jsOutput.writeTo(out, resolveImports);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
@@ -34,8 +34,11 @@ import io.spine.js.generate.output.CodeLines;
 import io.spine.js.generate.output.FileWriter;
 import io.spine.js.generate.output.snippet.Comment;
 import io.spine.js.generate.output.snippet.Import;
+import io.spine.js.generate.resolve.ResolveImports;
 import io.spine.type.MessageType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.file.Path;
 import java.util.Collection;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -68,13 +71,36 @@ public final class GenerateKnownTypeParsers extends GenerationTask {
     @VisibleForTesting
     static final String OBJECT_PARSER_FILE = IMPORT_PATH_PREFIX + "object-parser.js";
 
-    private GenerateKnownTypeParsers(Directory generatedRoot) {
+    /**
+     * The task resolving imports in the generated code.
+     *
+     * <p>Is {@code null} if the imports should be written as is.
+     */
+    private final @Nullable ResolveImports imports;
+
+    private GenerateKnownTypeParsers(Directory generatedRoot, @Nullable ResolveImports imports) {
         super(generatedRoot);
+        this.imports = imports;
     }
 
     public static GenerateKnownTypeParsers createFor(Directory generatedRoot) {
         checkNotNull(generatedRoot);
-        return new GenerateKnownTypeParsers(generatedRoot);
+        return new GenerateKnownTypeParsers(generatedRoot, null);
+    }
+
+    /**
+     * Creates a new task which resolves the imports of the generated code while writing it.
+     *
+     * @param generatedRoot
+     *         the root of the generated Protobuf sources
+     * @param imports
+     *         the task resolving imports
+     */
+    public static GenerateKnownTypeParsers createFor(Directory generatedRoot,
+                                                     ResolveImports imports) {
+        checkNotNull(generatedRoot);
+        checkNotNull(imports);
+        return new GenerateKnownTypeParsers(generatedRoot, imports);
     }
 
     /**
@@ -104,6 +130,10 @@ public final class GenerateKnownTypeParsers extends GenerationTask {
         }
         CodeLines code = codeFor(file);
         FileWriter writer = FileWriter.createFor(generatedRoot(), file);
+        if (imports != null) {
+            Path filePath = generatedRoot().resolve(FileName.from(file));
+            writer = writer.resolvingImports(imports.resolverFor(filePath));
+        }
         writer.append(code);
     }
 
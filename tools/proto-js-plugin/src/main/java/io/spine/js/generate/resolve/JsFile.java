@@ -22,19 +22,19 @@ package io.spine.js.generate.resolve;
 
 import com.google.common.base.Charsets;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
-import static java.util.stream.Collectors.toList;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * A JavaScript file present on a file system.
@@ -42,6 +42,7 @@ import static java.util.stream.Collectors.toList;
 final class JsFile {
 
     private static final String EXTENSION = ".js";
+    private static final String TEMP_SUFFIX = ".tmp";
 
     private final Path path;
 
@@ -56,7 +57,9 @@ final class JsFile {
     /**
      * Processes import statements in this file.
      *
-     * <p>Rewrites the file using the updated imports.
+     * <p>The file is read and processed line by line. The updated lines are written to
+     * a temporary file, which then replaces this file. If no import is changed,
+     * the file stays untouched.
      *
      * @param importFilter
      *         the predicate to filter out imports to be processed
@@ -65,20 +68,34 @@ final class JsFile {
      */
     void processImports(Predicate<ImportStatement> importFilter,
                         ProcessImport processFunction) {
-        try (Stream<String> lines = Files.lines(path)) {
-            List<String> updatedLines = lines
-                    .map(line -> processLine(line, importFilter, processFunction))
-                    .collect(toList());
-            rewriteFile(updatedLines);
+        File file = path.toFile();
+        Path tempFile = tempFile();
+        boolean changed = false;
+        try (BufferedReader in = Files.newBufferedReader(path, Charsets.UTF_8);
+             BufferedWriter out = Files.newBufferedWriter(tempFile, Charsets.UTF_8)) {
+            String line = in.readLine();
+            while (line != null) {
+                String processed = processLine(line, file, importFilter, processFunction);
+                changed |= !processed.equals(line);
+                out.write(processed);
+                out.newLine();
+                line = in.readLine();
+            }
         } catch (IOException e) {
+            deleteQuietly(tempFile);
             throw illegalStateWithCauseOf(e);
         }
+        if (changed) {
+            replaceWith(tempFile);
+        } else {
+            deleteQuietly(tempFile);
+        }
     }
 
-    private String processLine(String line,
-                               Predicate<ImportStatement> importFilter,
-                               ProcessImport processFunction) {
-        File file = path.toFile();
+    private static String processLine(String line,
+                                      File file,
+                                      Predicate<ImportStatement> importFilter,
+                                      ProcessImport processFunction) {
         if (ImportStatement.hasImport(line)) {
             ImportStatement importStatement = new ImportStatement(line, file);
             boolean matchesFilter = importFilter.test(importStatement);
@@ -90,14 +107,32 @@ final class JsFile {
         return line;
     }
 
-    private void rewriteFile(Iterable<String> lines) {
+    private Path tempFile() {
+        try {
+            return Files.createTempFile(path.getParent(), path.getFileName()
+                                                              .toString(), TEMP_SUFFIX);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private void replaceWith(Path tempFile) {
         try {
-            Files.write(path, lines, Charsets.UTF_8, TRUNCATE_EXISTING);
+            Files.move(tempFile, path, REPLACE_EXISTING, ATOMIC_MOVE);
         } catch (IOException e) {
+            deleteQuietly(tempFile);
             throw illegalStateWithCauseOf(e);
         }
     }
 
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // The temporary file will be removed on the next clean build.
+        }
+    }
+
     /**
      * A function processing an import statement.
      */
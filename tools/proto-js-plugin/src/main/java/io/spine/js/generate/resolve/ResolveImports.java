@@ -33,10 +33,12 @@ import io.spine.js.generate.GenerationTask;
 import io.spine.logging.Logging;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.File;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -46,8 +48,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
  *
  * <p>Supports only {@code CommonJs} imports.
  *
- * <p>The task should be performed last among {@linkplain GenerationTask generation tasks}
- * to ensure that imports won't be modified after execution of this task.
+ * <p>The task processes each file in a single pass and should be performed before
+ * the {@linkplain GenerationTask generation tasks} appending code to the files. The imports
+ * in the appended code are resolved while the code is written
+ * using {@link #resolverFor(Path)}.
  */
 public final class ResolveImports extends GenerationTask implements Logging {
 
@@ -60,6 +64,10 @@ public final class ResolveImports extends GenerationTask implements Logging {
     private static final String GOOGLE_PROTOBUF_MODULE = "google-protobuf";
     private static final Pattern GOOGLE_PROTOBUF_MODULE_PATTERN =
             Pattern.compile(GOOGLE_PROTOBUF_MODULE + FileReference.separator());
+    private static final Predicate<ImportStatement> IS_GOOGLE_PROTOBUF_IMPORT =
+            new IsGoogleProtobufImport();
+    private static final Predicate<ImportStatement> IS_UNRESOLVED_RELATIVE_IMPORT =
+            new IsUnresolvedRelativeImport();
 
     private final Set<ExternalModule> modules;
 
@@ -81,29 +89,51 @@ public final class ResolveImports extends GenerationTask implements Logging {
     @VisibleForTesting
     void resolveInFile(Path filePath) {
         JsFile file = new JsFile(filePath);
-        relativizeStandardProtoImports(file);
-        resolveRelativeImports(file);
+        file.processImports(statement -> true, this::resolve);
     }
 
-    private void resolveRelativeImports(JsFile file) {
-        file.processImports(new IsUnresolvedRelativeImport(), this::resolveRelativeImports);
+    /**
+     * Obtains the function resolving an import in a code line of the specified file.
+     *
+     * <p>The lines without imports are returned as is.
+     *
+     * @param filePath
+     *         the path of the file the lines are written to
+     * @return the function resolving an import in a line
+     */
+    public UnaryOperator<String> resolverFor(Path filePath) {
+        checkNotNull(filePath);
+        File file = filePath.toFile();
+        return line -> {
+            if (!ImportStatement.hasImport(line)) {
+                return line;
+            }
+            ImportStatement statement = new ImportStatement(line, file);
+            return resolve(statement).text();
+        };
     }
 
     /**
-     * Replaces all imports from {@code google-protobuf} module by relative imports.
-     * Then, these imports are resolved among external modules.
+     * Resolves the import statement.
      *
-     * <p>Such a replacement is required since we want to use own versions
+     * <p>An import from {@code google-protobuf} module is replaced by a relative import.
+     * Such a replacement is required since we want to use own versions
      * of standard types, which are additionally processed by the Protobuf JS plugin.
-     *
-     * <p>The custom versions of standard Protobuf types are provided by
+     * The custom versions of standard Protobuf types are provided by
      * the {@linkplain ExternalModule#spineWeb() Spine Web}.
      *
-     * @param file
-     *         the file to process imports in
+     * <p>Then, a relative import of a missing file is resolved among main sources
+     * and external modules.
      */
-    private void relativizeStandardProtoImports(JsFile file) {
-        file.processImports(new IsGoogleProtobufImport(), this::relativizeStandardProtoImport);
+    private ImportStatement resolve(ImportStatement statement) {
+        ImportStatement result = statement;
+        if (IS_GOOGLE_PROTOBUF_IMPORT.apply(result)) {
+            result = relativizeStandardProtoImport(result);
+        }
+        if (IS_UNRESOLVED_RELATIVE_IMPORT.apply(result)) {
+            result = resolveRelativeImports(result);
+        }
+        return result;
     }
 
     private ImportStatement relativizeStandardProtoImport(ImportStatement original) {
@@ -139,11 +139,12 @@ public class ProtoJsPlugin extends ProtoPlugin {
     private static void generateCode(Directory generatedRoot,
                                      Supplier<FileSet> files,
                                      List<ExternalModule> modules) {
+        ResolveImports resolveImports = new ResolveImports(generatedRoot, modules);
         List<GenerationTask> tasks = ImmutableList.of(
-                GenerateKnownTypeParsers.createFor(generatedRoot),
+                resolveImports,
+                GenerateKnownTypeParsers.createFor(generatedRoot, resolveImports),
                 new AppendTypeUrlGetter(generatedRoot),
-                new GenerateIndexFile(generatedRoot),
-                new ResolveImports(generatedRoot, modules)
+                new GenerateIndexFile(generatedRoot)
         );
         FileSet suppliedFiles = files.get();
         for (GenerationTask task : tasks) {
@@ -33,6 +33,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 
 import static io.spine.js.generate.given.Generators.assertContains;
@@ -266,6 +268,30 @@ class CodeLinesTest {
         assertEquals(expected, output);
     }
 
+    @Test
+    @DisplayName("write all lines of code with correct indent to a writer")
+    void writeToWriter() throws IOException {
+        CodeLines jsOutput = newCodeLines("line 1");
+        jsOutput.increaseDepth();
+        jsOutput.append("line 2");
+        StringWriter out = new StringWriter();
+        jsOutput.writeTo(out);
+        String expected = jsOutput.toString() + LINE_SEPARATOR;
+        assertEquals(expected, out.toString());
+    }
+
+    @Test
+    @DisplayName("process each line when writing to a writer")
+    void processLinesOnWrite() throws IOException {
+        CodeLines jsOutput = newCodeLines("line 1");
+        jsOutput.increaseDepth();
+        jsOutput.append("line 2");
+        StringWriter out = new StringWriter();
+        jsOutput.writeTo(out, line -> line.replace("line", "row"));
+        String expected = "row 1" + LINE_SEPARATOR + "  row 2" + LINE_SEPARATOR;
+        assertEquals(expected, out.toString());
+    }
+
     private static StringSubject assertThat(CodeLines lines) {
         return Truth.assertThat(lines.toString());
     }
@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.js.generate.resolve.given.Given.newModule;
@@ -128,6 +129,17 @@ class ResolveImportsTest {
                 .containsExactly("require('spine-web/proto/google/protobuf/timestamp_pb.js');");
     }
 
+    @Test
+    @DisplayName("resolve an import in an emitted code line")
+    void resolveEmittedImport() {
+        ResolveImports task = newTask(module);
+        UnaryOperator<String> resolver = task.resolverFor(testFile);
+        assertThat(resolver.apply("require('./root-dir/missing.js');"))
+                .isEqualTo("require('test-module/root-dir/missing.js');");
+        String notImport = "let a = 42;";
+        assertThat(resolver.apply(notImport)).isEqualTo(notImport);
+    }
+
     private void createFile(String name) throws IOException {
         Path filePath = tempDirectory.resolve(name);
         Files.createDirectories(filePath.getParent());
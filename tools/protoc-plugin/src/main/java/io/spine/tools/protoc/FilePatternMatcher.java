@@ -21,10 +21,13 @@
 package io.spine.tools.protoc;
 
 import io.spine.type.MessageType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.tools.protoc.FilePattern.ValueCase.REGEX;
 
 /**
  * {@link FilePattern} predicate that returns {@code true} if supplied Protobuf
@@ -34,9 +37,19 @@ public final class FilePatternMatcher implements Predicate<MessageType> {
 
     private final FilePattern pattern;
 
+    /**
+     * The compiled {@linkplain FilePattern#getRegex() regex} of the pattern.
+     *
+     * <p>Is {@code null} if the pattern is not a regex.
+     */
+    private final @Nullable Pattern regex;
+
     public FilePatternMatcher(FilePattern filePattern) {
         checkNotNull(filePattern);
         this.pattern = filePattern;
+        this.regex = filePattern.getValueCase() == REGEX
+                     ? Pattern.compile(filePattern.getRegex())
+                     : null;
     }
 
     @Override
@@ -50,7 +63,8 @@ public final class FilePatternMatcher implements Predicate<MessageType> {
             case PREFIX:
                 return protoFileName.startsWith(pattern.getPrefix());
             case REGEX:
-                return protoFileName.matches(pattern.getRegex());
+                return checkNotNull(regex).matcher(protoFileName)
+                                          .matches();
             case VALUE_NOT_SET:
             default:
                 return false;
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protoc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Descriptors.GenericDescriptor;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse.File;
+import io.spine.logging.Logging;
+import io.spine.type.Type;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * An on-disk cache of the {@linkplain CompilerOutput compiler output} generated per type.
+ *
+ * <p>An entry is keyed by the hash of the generator, the name of the type, and the descriptors of
+ * the file declaring the type and of all the files it depends on, directly or transitively.
+ * The descriptors of the whole files are used rather than just the descriptor of the type, since
+ * the generated code may depend on the file options and on the imported types.
+ *
+ * <p>The entries are grouped into a directory named after the hash of the plugin
+ * {@linkplain SpineProtocConfig configuration} and the version of the plugin. When either of them
+ * changes, the entries created under other configurations are deleted.
+ *
+ * <p>The cache never fails the code generation. If an entry cannot be read or written, the code
+ * is generated as if there was no cache.
+ */
+final class OutputCache implements Logging {
+
+    private final Path directory;
+
+    /**
+     * The hashes of the dependency closures of the files, which declare the processed types.
+     */
+    private final ConcurrentMap<FileDescriptor, HashCode> fileHashes = new ConcurrentHashMap<>();
+
+    private OutputCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a new cache in the given directory for the given plugin configuration.
+     *
+     * @param root
+     *         the root directory of the cache
+     * @param config
+     *         the configuration of the plugin
+     */
+    static OutputCache at(Path root, SpineProtocConfig config) {
+        checkNotNull(root);
+        checkNotNull(config);
+        String configHash = hashOf(config);
+        Path directory = root.resolve(configHash);
+        OutputCache cache = new OutputCache(directory);
+        cache.deleteOtherConfigurations(root);
+        return cache;
+    }
+
+    /**
+     * Calculates the hash of the configuration.
+     *
+     * <p>Since the method factories are loaded from the configured classpath, the size and
+     * the modification time of the classpath entries are also considered.
+     *
+     * <p>The code generated by the same configuration may differ between the versions of
+     * the plugin. Thus, the version of the plugin is considered as well.
+     */
+    private static String hashOf(SpineProtocConfig config) {
+        Hasher hasher = Hashing.sha256()
+                               .newHasher()
+                               .putBytes(config.toByteArray())
+                               .putString(pluginVersion(), UTF_8);
+        for (String jar : config.getAddMethods()
+                                .getFactoryClasspath()
+                                .getJarList()) {
+            java.io.File file = new java.io.File(jar);
+            hasher.putLong(file.length())
+                  .putLong(file.lastModified());
+        }
+        return hasher.hash()
+                     .toString();
+    }
+
+    /**
+     * Obtains the version of the plugin.
+     *
+     * <p>If the plugin is not packed into a JAR with the implementation version in the manifest,
+     * the size and the modification time of the plugin classes location are used instead.
+     */
+    private static String pluginVersion() {
+        String version = OutputCache.class.getPackage()
+                                          .getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        CodeSource source = OutputCache.class.getProtectionDomain()
+                                             .getCodeSource();
+        if (source == null) {
+            return "";
+        }
+        java.io.File location = new java.io.File(source.getLocation()
+                                                       .getPath());
+        return location.length() + ":" + location.lastModified();
+    }
+
+    private void deleteOtherConfigurations(Path root) {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> configurations = Files.list(root)) {
+            configurations.filter(path -> !path.equals(directory))
+                          .forEach(OutputCache::deleteRecursively);
+        } catch (IOException e) {
+            _warn("Unable to clean up the protoc plugin cache at `{}`: {}", root, e);
+        }
+    }
+
+    private static void deleteRecursively(Path path) {
+        try (Stream<Path> contents = Files.walk(path)) {
+            contents.sorted((left, right) -> right.getNameCount() - left.getNameCount())
+                    .forEach(file -> file.toFile()
+                                         .delete());
+        } catch (IOException ignored) {
+            // The stale entries will be deleted next time.
+        }
+    }
+
+    /**
+     * Obtains the output for the given type from the cache, or generates and stores it
+     * if the cache does not have it yet.
+     *
+     * @param generator
+     *         the generator which produces the output
+     * @param type
+     *         the type for which the output is produced
+     * @param generation
+     *         the function generating the output
+     * @return the cached or the newly generated output
+     */
+    Collection<CompilerOutput>
+    get(SpineProtoGenerator generator,
+        Type<?, ?> type,
+        Function<Type<?, ?>, Collection<CompilerOutput>> generation) {
+        Path entry = directory.resolve(keyOf(generator, type) + ".pb");
+        Optional<ImmutableList<CompilerOutput>> cached = read(entry);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Collection<CompilerOutput> result = generation.apply(type);
+        write(entry, result);
+        return result;
+    }
+
+    private String keyOf(SpineProtoGenerator generator, Type<?, ?> type) {
+        GenericDescriptor descriptor = type.descriptor();
+        HashCode fileHash = fileHashes.computeIfAbsent(descriptor.getFile(),
+                                                       OutputCache::hashOfClosure);
+        return Hashing.sha256()
+                      .newHasher()
+                      .putString(generator.getClass()
+                                          .getName(), UTF_8)
+                      .putString(descriptor.getFullName(), UTF_8)
+                      .putBytes(fileHash.asBytes())
+                      .hash()
+                      .toString();
+    }
+
+    /**
+     * Calculates the hash of the given file and all the files it depends on.
+     */
+    private static HashCode hashOfClosure(FileDescriptor file) {
+        Hasher hasher = Hashing.sha256()
+                               .newHasher();
+        Set<FileDescriptor> closure = new LinkedHashSet<>();
+        collectClosure(file, closure);
+        for (FileDescriptor dependency : closure) {
+            hasher.putBytes(dependency.toProto()
+                                      .toByteArray());
+        }
+        return hasher.hash();
+    }
+
+    private static void collectClosure(FileDescriptor file, Set<FileDescriptor> closure) {
+        if (closure.add(file)) {
+            for (FileDescriptor dependency : file.getDependencies()) {
+                collectClosure(dependency, closure);
+            }
+        }
+    }
+
+    private Optional<ImmutableList<CompilerOutput>> read(Path entry) {
+        if (!Files.exists(entry)) {
+            return Optional.empty();
+        }
+        try (InputStream in = Files.newInputStream(entry)) {
+            CodeGeneratorResponse response = CodeGeneratorResponse.parseFrom(in);
+            ImmutableList<CompilerOutput> result = response
+                    .getFileList()
+                    .stream()
+                    .map(CachedOutput::new)
+                    .collect(toImmutableList());
+            return Optional.of(result);
+        } catch (IOException e) {
+            _debug("Unable to read the cached protoc plugin output `{}`: {}", entry, e);
+            return Optional.empty();
+        }
+    }
+
+    private void write(Path entry, Collection<CompilerOutput> output) {
+        CodeGeneratorResponse.Builder response = CodeGeneratorResponse.newBuilder();
+        output.forEach(item -> response.addFile(item.asFile()));
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, null, null);
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                response.build()
+                        .writeTo(out);
+            }
+            Files.move(temp, entry, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            _debug("Unable to cache the protoc plugin output `{}`: {}", entry, e);
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(@Nullable Path file) {
+        if (file != null) {
+            file.toFile()
+                .delete();
+        }
+    }
+
+    /**
+     * The compiler output restored from the cache.
+     */
+    private static final class CachedOutput extends AbstractCompilerOutput {
+
+        private CachedOutput(File file) {
+            super(file);
+        }
+    }
+}
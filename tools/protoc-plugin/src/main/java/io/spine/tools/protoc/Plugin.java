@@ -30,6 +30,8 @@ import io.spine.tools.protoc.method.MethodGenerator;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Base64;
 
 import static com.google.common.base.Charsets.UTF_8;
@@ -50,6 +52,8 @@ import static io.spine.util.Exceptions.newIllegalStateException;
  */
 public final class Plugin {
 
+    private static final String CACHE_DIR_SUFFIX = ".cache";
+
     /** Prevents instantiation from outside. */
     private Plugin() {
     }
@@ -59,14 +63,28 @@ public final class Plugin {
      */
     public static void main(String[] args) {
         CodeGeneratorRequest request = readRequest();
-        SpineProtocConfig config = readConfig(request);
+        Path configFile = configFile(request);
+        SpineProtocConfig config = readConfig(configFile);
         SpineProtoGenerator generator = InterfaceGenerator
                 .instance(config)
                 .linkWith(MethodGenerator.instance(config));
-        CodeGeneratorResponse response = generator.process(request);
+        OutputCache cache = OutputCache.at(cacheDir(configFile), config);
+        CodeGeneratorResponse response = generator.process(request, cache);
         writeResponse(response);
     }
 
+    private static Path configFile(CodeGeneratorRequest request) {
+        String configFilePath = decodeBase64(request.getParameter());
+        return Paths.get(configFilePath);
+    }
+
+    /**
+     * Obtains the directory of the output cache, which is placed next to the config file.
+     */
+    private static Path cacheDir(Path configFile) {
+        return configFile.resolveSibling(configFile.getFileName() + CACHE_DIR_SUFFIX);
+    }
+
     private static CodeGeneratorRequest readRequest() {
         try {
             CodeGeneratorRequest request = CodeGeneratorRequest
@@ -77,9 +95,8 @@ public final class Plugin {
         }
     }
 
-    private static SpineProtocConfig readConfig(CodeGeneratorRequest request) {
-        String configFilePath = decodeBase64(request.getParameter());
-        try (FileInputStream fis = new FileInputStream(configFilePath)) {
+    private static SpineProtocConfig readConfig(Path configFile) {
+        try (FileInputStream fis = new FileInputStream(configFile.toFile())) {
             SpineProtocConfig config = SpineProtocConfig
                     .parseFrom(fis, OptionExtensionRegistry.instance());
             return config;
@@ -38,6 +38,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -108,6 +110,21 @@ public abstract class SpineProtoGenerator {
      * @see #generate Javadoc for generate(...) for more detailed description
      */
     public final CodeGeneratorResponse process(CodeGeneratorRequest request) {
+        return process(request, null);
+    }
+
+    /**
+     * Processes the given compiler request reusing the output cached by the previous runs.
+     *
+     * @param request
+     *         the compiler request
+     * @param cache
+     *         the cache of the output, or {@code null} to generate all the code anew
+     * @return the response to the compiler
+     * @see #process(CodeGeneratorRequest)
+     */
+    final CodeGeneratorResponse process(CodeGeneratorRequest request,
+                                        @Nullable OutputCache cache) {
         checkNotNull(request);
         checkCompilerVersion(request);
         checkNotEmpty(request);
@@ -118,7 +135,7 @@ public abstract class SpineProtoGenerator {
                                                   .collect(toSet());
         FileSet requestedFiles = fileSet.find(requestedFileNames);
         TypeSet typeSet = TypeSet.from(requestedFiles);
-        CodeGeneratorResponse response = process(typeSet);
+        CodeGeneratorResponse response = process(typeSet, cache);
         return response;
     }
 
@@ -160,6 +177,19 @@ public abstract class SpineProtoGenerator {
      */
     protected abstract Collection<CompilerOutput> generate(Type<?, ?> type);
 
+    /**
+     * Tells if the types may be {@linkplain #generate(Type) processed} in parallel.
+     *
+     * <p>The generators which rely on the user-defined code, e.g. on the custom method factories,
+     * should process the types sequentially, as such code is not required to be thread-safe.
+     *
+     * @return {@code true} if the implementation of {@link #generate(Type)} is thread-safe,
+     *         {@code false} otherwise
+     */
+    protected boolean supportsParallelGeneration() {
+        return false;
+    }
+
     private static void checkNotEmpty(CodeGeneratorRequest request)
             throws IllegalArgumentException {
         checkArgument(request.getFileToGenerateCount() > 0, "No files to generate provided.");
@@ -168,8 +198,8 @@ public abstract class SpineProtoGenerator {
     /**
      * Processes all passed proto files.
      */
-    private CodeGeneratorResponse process(TypeSet types) {
-        Set<CompilerOutput> rawOutput = generate(types);
+    private CodeGeneratorResponse process(TypeSet types, @Nullable OutputCache cache) {
+        Set<CompilerOutput> rawOutput = generate(types, cache);
         Collection<File> mergedFiles = mergeFiles(rawOutput);
         CodeGeneratorResponse response = CodeGeneratorResponse
                 .newBuilder()
@@ -180,15 +210,24 @@ public abstract class SpineProtoGenerator {
 
     /**
      * Generates code for the supplied types.
+     *
+     * <p>The types are processed in parallel if the generator
+     * {@linkplain #supportsParallelGeneration() supports} it.
      */
-    private Set<CompilerOutput> generate(TypeSet types) {
+    private Set<CompilerOutput> generate(TypeSet types, @Nullable OutputCache cache) {
         Set<CompilerOutput> result = newHashSet();
         if (linkedGenerator != null) {
-            result.addAll(linkedGenerator.generate(types));
+            result.addAll(linkedGenerator.generate(types, cache));
         }
-        Set<CompilerOutput> rawOutput = types.allTypes()
-                                             .stream()
-                                             .map(this::generate)
+        Function<Type<?, ?>, Collection<CompilerOutput>> generation =
+                cache == null
+                ? this::generate
+                : type -> cache.get(this, type, this::generate);
+        Set<Type<?, ?>> allTypes = types.allTypes();
+        Stream<Type<?, ?>> typeStream = supportsParallelGeneration()
+                                        ? allTypes.parallelStream()
+                                        : allTypes.stream();
+        Set<CompilerOutput> rawOutput = typeStream.map(generation)
                                              .flatMap(Collection::stream)
                                              .collect(toSet());
         result.addAll(rawOutput);
@@ -99,6 +99,17 @@ public final class InterfaceGenerator extends SpineProtoGenerator {
                : ImmutableList.of();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The interfaces are generated by the built-in tasks only, which do not share any
+     * mutable state. Thus, the types are processed in parallel.
+     */
+    @Override
+    protected boolean supportsParallelGeneration() {
+        return true;
+    }
+
     private ImmutableList<CompilerOutput> processMessageType(MessageType type) {
         ImmutableList.Builder<CompilerOutput> result = ImmutableList.builder();
 
@@ -43,6 +43,7 @@ import org.junitpioneer.jupiter.TempDirectory;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.spine.tools.protoc.given.CodeGeneratorRequestGiven.protocConfig;
 import static io.spine.tools.protoc.given.CodeGeneratorRequestGiven.requestBuilder;
@@ -184,6 +185,38 @@ final class SpineProtoGeneratorTest {
         fileContent.isEqualTo(method);
     }
 
+    @DisplayName("reuse the cached output")
+    @Test
+    void reuseCachedOutput() {
+        GeneratedMethods methods = new GeneratedMethods();
+        MessageSelectorFactory messages = methods.messages();
+        methods.applyFactory(UuidMethodFactory.class.getName(), messages.uuid());
+        CodeGeneratorRequest request = requestBuilder()
+                .addProtoFile(TestGeneratorsProto.getDescriptor()
+                                                 .toProto())
+                .addFileToGenerate(TEST_PROTO_FILE)
+                .setParameter(protocConfig(methods, testPluginConfig))
+                .build();
+        SpineProtocConfig config = SpineProtocConfig.getDefaultInstance();
+        MessageType type = new MessageType(EnhancedWithCodeGeneration.getDescriptor());
+        File generated = File
+                .newBuilder()
+                .setName("file.proto")
+                .setContent("public void test(){}")
+                .setInsertionPoint(InsertionPoint.class_scope.forType(type))
+                .build();
+        TestGenerator generator =
+                new TestGenerator(ImmutableList.of(new TestCompilerOutput(generated)));
+        Path cacheDir = testPluginConfig.resolveSibling("cache");
+
+        CodeGeneratorResponse first = generator.process(request, OutputCache.at(cacheDir, config));
+        int invocations = generator.invocations();
+        CodeGeneratorResponse second = generator.process(request, OutputCache.at(cacheDir, config));
+
+        assertEquals(first, second);
+        assertEquals(invocations, generator.invocations());
+    }
+
     @DisplayName("not process invalid CodeGeneratorRequest")
     @Test
     void notProcessInvalidRequests() {
@@ -206,6 +239,7 @@ final class SpineProtoGeneratorTest {
     private static class TestGenerator extends SpineProtoGenerator {
 
         private final ImmutableList<CompilerOutput> compilerOutputs;
+        private final AtomicInteger invocations = new AtomicInteger();
 
         private TestGenerator() {
             this(ImmutableList.of());
@@ -217,8 +251,13 @@ final class SpineProtoGeneratorTest {
 
         @Override
         protected Collection<CompilerOutput> generate(Type<?, ?> type) {
+            invocations.incrementAndGet();
             return compilerOutputs;
         }
+
+        private int invocations() {
+            return invocations.get();
+        }
     }
 
     private static class TestCompilerOutput extends AbstractCompilerOutput {
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.fs;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.nio.file.Files.exists;
+
+/**
+ * Content fingerprints of the files processed by a build step.
+ *
+ * <p>The fingerprints recorded by a previous run are {@linkplain #load(Path, String) loaded}
+ * from a file. A build step compares them to the current fingerprints, processes only the
+ * changed files, {@linkplain #update(String, String) records} the new fingerprints, and
+ * {@linkplain #save() saves} them for the next run.
+ *
+ * <p>Fingerprints are bound to a configuration of the build step. If the configuration stored
+ * along with the fingerprints differs from the current one, all the stored fingerprints are
+ * discarded, so that all the files are processed anew.
+ */
+public final class Fingerprints {
+
+    private static final String CONFIGURATION_KEY = "@configuration";
+
+    private final Path storage;
+    private final String configuration;
+    private final Map<String, String> previous;
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+
+    private Fingerprints(Path storage, String configuration, Map<String, String> previous) {
+        this.storage = storage;
+        this.configuration = configuration;
+        this.previous = previous;
+    }
+
+    /**
+     * Loads the fingerprints from the given file.
+     *
+     * <p>If the file does not exist, cannot be read, or was written under another configuration,
+     * no fingerprints are considered to be recorded.
+     *
+     * @param storage
+     *         the file storing the fingerprints
+     * @param configuration
+     *         the textual representation of the current configuration of the build step
+     */
+    public static Fingerprints load(Path storage, String configuration) {
+        checkNotNull(storage);
+        checkNotNull(configuration);
+        Map<String, String> previous = new ConcurrentHashMap<>();
+        if (exists(storage)) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(storage)) {
+                properties.load(in);
+            } catch (IOException ignored) {
+                // Corrupted fingerprints are no different from the missing ones.
+                properties.clear();
+            }
+            if (configuration.equals(properties.getProperty(CONFIGURATION_KEY))) {
+                properties.remove(CONFIGURATION_KEY);
+                properties.stringPropertyNames()
+                          .forEach(key -> previous.put(key, properties.getProperty(key)));
+            }
+        }
+        return new Fingerprints(storage, configuration, previous);
+    }
+
+    /**
+     * Creates an instance which ignores the fingerprints recorded in the given file.
+     *
+     * <p>The new fingerprints are {@linkplain #save() saved} to the same file.
+     *
+     * @param storage
+     *         the file storing the fingerprints
+     * @param configuration
+     *         the textual representation of the current configuration of the build step
+     */
+    public static Fingerprints discard(Path storage, String configuration) {
+        checkNotNull(storage);
+        checkNotNull(configuration);
+        return new Fingerprints(storage, configuration, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Creates a new fingerprint of the given content.
+     */
+    public static String of(byte[] content) {
+        checkNotNull(content);
+        return Hashing.sha256()
+                      .hashBytes(content)
+                      .toString();
+    }
+
+    /**
+     * Tells if the given fingerprint is the same as the one recorded
+     * under the given key by the previous run.
+     */
+    public boolean isUpToDate(String key, String fingerprint) {
+        checkNotNull(key);
+        checkNotNull(fingerprint);
+        return fingerprint.equals(previous.get(key));
+    }
+
+    /**
+     * Obtains the keys recorded by the previous run.
+     */
+    public ImmutableSet<String> previousKeys() {
+        return ImmutableSet.copyOf(previous.keySet());
+    }
+
+    /**
+     * Obtains the fingerprint recorded under the given key by the previous run.
+     */
+    public Optional<String> previous(String key) {
+        checkNotNull(key);
+        return Optional.ofNullable(previous.get(key));
+    }
+
+    /**
+     * Records the fingerprint for the given key.
+     *
+     * <p>Only the keys recorded by this method during the current run are {@linkplain #save()
+     * saved}. The keys of the files which are gone are thus forgotten.
+     */
+    public void update(String key, String fingerprint) {
+        checkNotNull(key);
+        checkNotNull(fingerprint);
+        current.put(key, fingerprint);
+    }
+
+    /**
+     * Writes the fingerprints recorded during the current run to the storage file.
+     */
+    public void save() {
+        Properties properties = new Properties();
+        properties.putAll(current);
+        properties.setProperty(CONFIGURATION_KEY, configuration);
+        try {
+            Path parent = storage.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(storage)) {
+                properties.store(out, null);
+            }
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+}
@@ -20,12 +20,8 @@
 
 package io.spine.tools.archive;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -73,11 +69,14 @@ public final class ArchiveFile {
     }
 
     /**
-     * Finds a ZIP entry with the given name according to {@code ZipEntry.getName()}.
+     * Finds the ZIP entries with the given extension according to {@code ZipEntry.getName()}.
+     *
+     * <p>Only the matching entries are read. The other entries are not decompressed.
      *
      * @param fileExtension
      *         file extension to look for; must start with a dot ({@code .})
-     * @return the found entry or {@code Optional.empty()} if there is no such entry in this archive
+     * @return the found entries or an empty collection if there are no such entries
+     *         in this archive
      */
     public Collection<ArchiveEntry> findByExtension(String fileExtension) {
         checkNotNull(fileExtension);
@@ -89,18 +88,10 @@ public final class ArchiveFile {
     }
 
     /**
-     * Opens an {@code InputStream} from this file.
-     *
-     * <p>It is a responsibility of the client to close the stream when it is no longer needed.
-     *
-     * @return a buffered stream of the archive content
+     * Obtains the archive file.
      */
-    InputStream open() {
-        try {
-            return new BufferedInputStream(new FileInputStream(file));
-        } catch (FileNotFoundException e) {
-            throw illegalStateWithCauseOf(e);
-        }
+    File file() {
+        return file;
     }
 
     /**
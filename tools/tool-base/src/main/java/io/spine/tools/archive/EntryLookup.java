@@ -25,9 +25,11 @@ import io.spine.logging.Logging;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.io.ByteStreams.toByteArray;
@@ -35,13 +37,16 @@ import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 
 /**
  * A process of an entry lookup inside of an archive.
+ *
+ * <p>The lookup relies on the central directory of the archive. Only the matching entries are
+ * decompressed and read.
  */
 final class EntryLookup implements Closeable, Logging {
 
-    private final ZipInputStream stream;
+    private final ZipFile zipFile;
 
-    private EntryLookup(ZipInputStream stream) {
-        this.stream = stream;
+    private EntryLookup(ZipFile zipFile) {
+        this.zipFile = zipFile;
     }
 
     /**
@@ -51,19 +56,20 @@ final class EntryLookup implements Closeable, Logging {
      */
     static EntryLookup open(ArchiveFile archiveFile) {
         checkNotNull(archiveFile);
-        ZipInputStream stream = new ZipInputStream(archiveFile.open());
-        return new EntryLookup(stream);
+        try {
+            ZipFile zipFile = new ZipFile(archiveFile.file());
+            return new EntryLookup(zipFile);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
     }
 
     /**
-     * Finds an entry with the given name in the archive.
-     *
-     * <p>This method should only be called once in the lifetime of an {@code EntryLookup}.
-     * All subsequent calls will always return an empty result.
+     * Finds the entries with the given extension in the archive.
      *
      * @param fileExtension
-     *         the name of the entry in terms of {@code ZipEntry.getName()}
-     * @return a snapshot of the found entry or {@code Optional.empty()} if there is no such entry
+     *         the extension of the entry names in terms of {@code ZipEntry.getName()}
+     * @return snapshots of the found entries
      */
     Collection<ArchiveEntry> findByExtension(String fileExtension) {
         try {
@@ -75,36 +81,36 @@ final class EntryLookup implements Closeable, Logging {
 
     private Collection<ArchiveEntry> doFindEntry(String fileExtension) throws IOException {
         ImmutableSet.Builder<ArchiveEntry> result = ImmutableSet.builder();
-        for (ZipEntry entry = stream.getNextEntry();
-             entry != null;
-             entry = stream.getNextEntry()) {
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
             String entryName = entry.getName();
-            if (entryName.endsWith(fileExtension)) {
+            if (!entry.isDirectory() && entryName.endsWith(fileExtension)) {
                 _debug("Reading ZIP entry `{}`.", entryName);
-                ArchiveEntry read = readEntry();
+                ArchiveEntry read = readEntry(entry);
                 result.add(read);
             }
         }
         return result.build();
     }
 
-    private ArchiveEntry readEntry() throws IOException {
-        // When being read, a `ZipStream` reports to be out of data when the *current entry* is
-        // over, not when the whole archive is read.
-        byte[] bytes = toByteArray(stream);
-        return ArchiveEntry.of(bytes);
+    private ArchiveEntry readEntry(ZipEntry entry) throws IOException {
+        try (InputStream stream = zipFile.getInputStream(entry)) {
+            byte[] bytes = toByteArray(stream);
+            return ArchiveEntry.of(bytes);
+        }
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Closes the underlying file stream.
+     * <p>Closes the underlying ZIP file.
      *
      * @throws IOException
-     *         if {@code InputStream.close()} throws an {@code IOException}
+     *         if {@code ZipFile.close()} throws an {@code IOException}
      */
     @Override
     public void close() throws IOException {
-        stream.close();
+        zipFile.close();
     }
 }
@@ -20,7 +20,12 @@
 
 package io.spine.tools.type;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import io.spine.code.proto.FileDescriptorSets;
@@ -33,52 +38,127 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
-import static com.google.common.collect.Sets.newHashSet;
 import static io.spine.code.proto.FileDescriptors.DESC_EXTENSION;
 import static io.spine.tools.archive.ArchiveFile.isArchive;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
-import static java.util.stream.Collectors.toSet;
 
 /**
  * A set of {@code FileDescriptorSet}s.
  */
 public final class FileDescriptorSuperset implements Logging {
 
+    /**
+     * The descriptor sets extracted from the archives.
+     *
+     * <p>The cache lives as long as the class is loaded, e.g. across the builds run by the same
+     * Gradle daemon. The values are softly referenced so that the cache never causes
+     * an {@code OutOfMemoryError}.
+     */
+    private static final Cache<ArchiveKey, ImmutableSet<FileDescriptorSet>> archives =
+            CacheBuilder.newBuilder()
+                        .softValues()
+                        .build();
+
+    /**
+     * The added descriptor sets in the order of the dependencies they are read from.
+     */
     private final Set<FileDescriptorSet> descriptors;
 
     /**
      * Creates a new instance of {@code FileDescriptorSuperset}.
      */
     public FileDescriptorSuperset() {
-        this.descriptors = newHashSet();
+        this.descriptors = new LinkedHashSet<>();
     }
 
     /**
      * Flattens this superset into a single descriptor set.
      *
-     * <p>The descriptors in the output set are de-duplicated and unordered.
+     * <p>The descriptors in the output set are de-duplicated by the file name and ordered
+     * the same way as the dependencies they are read from.
+     *
+     * <p>The descriptors of the same file are considered the same if they differ only in
+     * {@code source_code_info}. In this case, the descriptor which has the source info is taken.
+     * If the descriptors with the same file name have different contents, the one from
+     * the dependency added first is taken and a warning is logged.
      *
      * @return the result of the sets merging
      */
     public MergedDescriptorSet merge() {
-        Set<FileDescriptorProto> allFiles = descriptors
-                .stream()
-                .flatMap(set -> set.getFileList().stream())
-                .collect(toSet());
+        return doMerge(false);
+    }
+
+    /**
+     * Flattens this superset into a single descriptor set which has no source code info.
+     *
+     * <p>Use this method for the sets which are only used at runtime, e.g. to extend
+     * the known types. Without the source info, such a set is significantly smaller.
+     *
+     * @return the result of the sets merging without {@code source_code_info}
+     * @see #merge()
+     */
+    public MergedDescriptorSet mergeWithoutSourceInfo() {
+        return doMerge(true);
+    }
+
+    private MergedDescriptorSet doMerge(boolean stripSourceInfo) {
+        Map<String, FileDescriptorProto> files = new LinkedHashMap<>();
+        Map<String, HashCode> fingerprints = new HashMap<>();
+        for (FileDescriptorSet set : descriptors) {
+            for (FileDescriptorProto file : set.getFileList()) {
+                FileDescriptorProto stripped = withoutSourceInfo(file);
+                FileDescriptorProto candidate = stripSourceInfo ? stripped : file;
+                String name = file.getName();
+                HashCode fingerprint = fingerprint(stripped);
+                HashCode existing = fingerprints.putIfAbsent(name, fingerprint);
+                if (existing == null) {
+                    files.put(name, candidate);
+                } else if (!existing.equals(fingerprint)) {
+                    _warn("The file `{}` is found with different contents in the dependencies. " +
+                                  "The version from the first dependency is used.", name);
+                } else if (candidate.hasSourceCodeInfo()
+                        && !files.get(name).hasSourceCodeInfo()) {
+                    files.put(name, candidate);
+                }
+            }
+        }
         FileDescriptorSet descriptorSet = FileDescriptorSet
                 .newBuilder()
-                .addAllFile(allFiles)
+                .addAllFile(files.values())
                 .build();
         return new MergedDescriptorSet(descriptorSet);
     }
 
+    private static FileDescriptorProto withoutSourceInfo(FileDescriptorProto file) {
+        if (!file.hasSourceCodeInfo()) {
+            return file;
+        }
+        return file.toBuilder()
+                   .clearSourceCodeInfo()
+                   .build();
+    }
+
+    /**
+     * Obtains a cheap non-cryptographic hash of the given descriptor.
+     */
+    private static HashCode fingerprint(FileDescriptorProto file) {
+        return Hashing.murmur3_128()
+                      .hashBytes(file.toByteArray());
+    }
+
     public void addFromDependency(File dependencyFile) {
         checkNotNull(dependencyFile);
         _debug("Loading descriptors from `{}`.", dependencyFile);
@@ -86,6 +166,27 @@ public final class FileDescriptorSuperset implements Logging {
                 .forEach(this::addFiles);
     }
 
+    /**
+     * Adds the descriptors from all the given dependencies.
+     *
+     * <p>The dependencies are read in parallel.
+     *
+     * @param dependencyFiles
+     *         the dependency files, directories, or archives
+     * @see #addFromDependency(File)
+     */
+    public void addFromDependencies(Iterable<File> dependencyFiles) {
+        checkNotNull(dependencyFiles);
+        ImmutableList<File> files = ImmutableList.copyOf(dependencyFiles);
+        _debug("Loading descriptors from {} dependencies.", files.size());
+        ImmutableList<FileDescriptorSet> read = files
+                .parallelStream()
+                .map(this::readDependency)
+                .flatMap(Collection::stream)
+                .collect(toImmutableList());
+        read.forEach(this::addFiles);
+    }
+
     private void addFiles(FileDescriptorSet fileSet) {
         descriptors.add(fileSet);
     }
@@ -118,6 +219,19 @@ public final class FileDescriptorSuperset implements Logging {
     }
 
     private Collection<FileDescriptorSet> readFromArchive(File archiveFile) {
+        ArchiveKey key = new ArchiveKey(archiveFile);
+        ImmutableSet<FileDescriptorSet> cached = archives.getIfPresent(key);
+        if (cached != null) {
+            _debug("Reusing {} descriptor set file(s) from archive `{}`.",
+                   cached.size(), archiveFile);
+            return cached;
+        }
+        ImmutableSet<FileDescriptorSet> result = extractFromArchive(archiveFile);
+        archives.put(key, result);
+        return result;
+    }
+
+    private ImmutableSet<FileDescriptorSet> extractFromArchive(File archiveFile) {
         ArchiveFile archive = ArchiveFile.from(archiveFile);
         ImmutableSet<FileDescriptorSet> result = archive.findByExtension(DESC_EXTENSION)
                                                         .stream()
@@ -149,4 +263,39 @@ public final class FileDescriptorSuperset implements Logging {
             return Optional.empty();
         }
     }
+
+    /**
+     * Identifies a version of an archive file by its path, size and modification time.
+     */
+    private static final class ArchiveKey {
+
+        private final String path;
+        private final long size;
+        private final long lastModified;
+
+        private ArchiveKey(File file) {
+            this.path = file.getAbsolutePath();
+            this.size = file.length();
+            this.lastModified = file.lastModified();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ArchiveKey)) {
+                return false;
+            }
+            ArchiveKey other = (ArchiveKey) o;
+            return size == other.size
+                    && lastModified == other.lastModified
+                    && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, lastModified);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.fs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("Fingerprints should")
+class FingerprintsTest {
+
+    private static final String CONFIGURATION = "config";
+    private static final String KEY = "foo.proto";
+
+    private Path storage;
+    private String fingerprint;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        storage = tempDir.resolve("fingerprints")
+                         .resolve("task.properties");
+        fingerprint = Fingerprints.of("content".getBytes(UTF_8));
+    }
+
+    @Test
+    @DisplayName("consider all files changed if nothing is stored")
+    void emptyByDefault() {
+        Fingerprints fingerprints = Fingerprints.load(storage, CONFIGURATION);
+        assertFalse(fingerprints.isUpToDate(KEY, fingerprint));
+    }
+
+    @Test
+    @DisplayName("load saved fingerprints")
+    void saveAndLoad() {
+        save();
+        Fingerprints loaded = Fingerprints.load(storage, CONFIGURATION);
+        assertTrue(loaded.isUpToDate(KEY, fingerprint));
+        assertFalse(loaded.isUpToDate(KEY, Fingerprints.of(new byte[0])));
+    }
+
+    @Test
+    @DisplayName("discard fingerprints saved under another configuration")
+    void discardOnConfigurationChange() {
+        save();
+        Fingerprints loaded = Fingerprints.load(storage, CONFIGURATION + "-changed");
+        assertFalse(loaded.isUpToDate(KEY, fingerprint));
+    }
+
+    @Test
+    @DisplayName("forget the keys not updated by the last run")
+    void forgetStale() {
+        save();
+        Fingerprints.load(storage, CONFIGURATION)
+                    .save();
+        Fingerprints loaded = Fingerprints.load(storage, CONFIGURATION);
+        assertFalse(loaded.isUpToDate(KEY, fingerprint));
+    }
+
+    @Test
+    @DisplayName("expose the fingerprints recorded by the previous run")
+    void exposePrevious() {
+        save();
+        Fingerprints loaded = Fingerprints.load(storage, CONFIGURATION);
+        assertThat(loaded.previousKeys()).containsExactly(KEY);
+        assertEquals(Optional.of(fingerprint), loaded.previous(KEY));
+    }
+
+    private void save() {
+        Fingerprints fingerprints = Fingerprints.load(storage, CONFIGURATION);
+        fingerprints.update(KEY, fingerprint);
+        fingerprints.save();
+    }
+}
@@ -20,9 +20,12 @@
 
 package io.spine.tools.type;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.truth.IterableSubject;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo;
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo.Location;
 import com.google.protobuf.Descriptors.FileDescriptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +39,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
@@ -129,6 +133,61 @@ class FileDescriptorSupersetTest {
         assertDescriptors.contains(ProjectProto.getDescriptor().toProto());
     }
 
+    @Test
+    @DisplayName("merge descriptors from several dependencies at once")
+    void mergeFromAllDependencies() {
+        FileDescriptorSuperset superset = new FileDescriptorSuperset();
+        superset.addFromDependencies(ImmutableList.of(directoryDependency.toFile(),
+                                                      fileDependency.toFile(),
+                                                      archiveDependency.toFile(),
+                                                      archiveWithNoDescriptors.toFile()));
+
+        MergedDescriptorSet mergedSet = superset.merge();
+        IterableSubject assertDescriptors = assertThat(mergedSet.descriptors());
+        assertDescriptors.hasSize(3);
+        assertDescriptors.contains(TaskProto.getDescriptor().toProto());
+        assertDescriptors.contains(PersonProto.getDescriptor().toProto());
+        assertDescriptors.contains(ProjectProto.getDescriptor().toProto());
+    }
+
+    @Test
+    @DisplayName("de-duplicate descriptors of the same file")
+    void deduplicateByFileName(@TempDir Path sandbox) throws IOException {
+        FileDescriptorProto person = PersonProto.getDescriptor()
+                                                .toProto();
+        FileDescriptorProto withSourceInfo = person
+                .toBuilder()
+                .setSourceCodeInfo(SourceCodeInfo.newBuilder()
+                                                 .addLocation(Location.getDefaultInstance()))
+                .build();
+        FileDescriptorProto changed = person
+                .toBuilder()
+                .setPackage("changed.package")
+                .build();
+        Path plain = sandbox.resolve("plain.desc");
+        Path documented = sandbox.resolve("documented.desc");
+        Path conflicting = sandbox.resolve("conflicting.desc");
+        writeFiles(plain, person);
+        writeFiles(documented, withSourceInfo);
+        writeFiles(conflicting, changed);
+
+        FileDescriptorSuperset superset = new FileDescriptorSuperset();
+        superset.addFromDependency(plain.toFile());
+        superset.addFromDependency(documented.toFile());
+
+        assertThat(superset.merge().descriptors()).containsExactly(withSourceInfo);
+        assertThat(superset.mergeWithoutSourceInfo().descriptors()).containsExactly(person);
+
+        superset.addFromDependency(conflicting.toFile());
+        assertThat(superset.merge().descriptors()).containsExactly(withSourceInfo);
+
+        FileDescriptorSuperset reordered = new FileDescriptorSuperset();
+        reordered.addFromDependencies(ImmutableList.of(conflicting.toFile(),
+                                                       plain.toFile(),
+                                                       documented.toFile()));
+        assertThat(reordered.merge().descriptors()).containsExactly(changed);
+    }
+
     @Test
     @DisplayName("ignore empty files")
     void ignoreEmptyFiles() {
@@ -165,6 +224,15 @@ class FileDescriptorSupersetTest {
         }
     }
 
+    private static void writeFiles(Path path, FileDescriptorProto... files)
+            throws IOException {
+        FileDescriptorSet descriptorSet = FileDescriptorSet
+                .newBuilder()
+                .addAllFile(Arrays.asList(files))
+                .build();
+        Files.write(path, descriptorSet.toByteArray());
+    }
+
     private static void writeDescriptorSetToZip(Path zipPath, FileDescriptor... fileDescriptor) {
         File destination = zipPath.toFile();
         try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(destination))) {